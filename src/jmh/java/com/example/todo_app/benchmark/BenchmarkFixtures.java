@@ -0,0 +1,45 @@
+package com.example.todo_app.benchmark;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.model.Category;
+import com.example.todo_app.model.Todo;
+import com.example.todo_app.model.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// DB 없이 사용하는 벤치마크용 테스트 데이터
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {}
+
+    public static User user(int todoCount) {
+        User user = new User("benchmark-user", "benchmark-password");
+        user.setId(1);
+        user.setTodos(todos(user, todoCount));
+        return user;
+    }
+
+    // position 이 GAP(1024) 간격으로 정렬된 할 일 목록
+    public static List<Todo> todos(User user, int count) {
+        Category category = new Category(1, "일", null);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<Todo> todos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<String> tags = new ArrayList<>(List.of("work", "tag-" + (i % 10)));
+            todos.add(new Todo(i + 1, "할 일 " + i, i % 3 == 0, now.plusDays(i % 30), 1 + i % 3, (i + 1) * 1024,
+                    tags, now, now, user, category));
+        }
+        return todos;
+    }
+
+    public static List<TodoDTO> todoDTOs(int count) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<TodoDTO> todoDTOs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            todoDTOs.add(new TodoDTO(i + 1, "할 일 " + i, i % 3 == 0, now.plusDays(i % 30), 1 + i % 3, (i + 1) * 1024,
+                    List.of("work", "tag-" + (i % 10)), now, now, 1));
+        }
+        return todoDTOs;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.todo_app.benchmark;
+
+import com.example.todo_app.TodoAppApplication;
+import com.example.todo_app.model.User;
+import com.example.todo_app.repository.UserRepository;
+import com.example.todo_app.security.CustomUserDetails;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 벤치마크 공통 기능 : 인메모리 H2 로 애플리케이션 컨텍스트를 띄우고, 벤치마크 사용자를 준비
+public final class BenchmarkSupport {
+
+    // 벤치마크 전용 JWT 서명 키 (Base64)
+    public static final String JWT_SECRET = "dG9kby1hcHAtYmVuY2htYXJrLXNlY3JldC1rZXktMDEyMzQ1Njc4OQ==";
+
+    private BenchmarkSupport() {}
+
+    // 웹 서버 없이 애플리케이션 컨텍스트 시작
+    public static ConfigurableApplicationContext startContext(String... extraArgs) {
+        return run(List.of("--spring.main.web-application-type=none"), extraArgs);
+    }
+
+    // 임의 포트로 내장 Tomcat 까지 시작 (포트는 local.server.port 로 조회, 관리 포트도 임의 포트로 열어서 실행 중인 앱과 겹치지 않게 함)
+    public static ConfigurableApplicationContext startWebContext(String... extraArgs) {
+        return run(List.of("--server.port=0", "--management.server.port=0"), extraArgs);
+    }
+
+    private static ConfigurableApplicationContext run(List<String> modeArgs, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of("--jwt.secret=" + JWT_SECRET));
+        args.addAll(modeArgs);
+        args.addAll(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                "--logging.level.root=WARN"
+        ));
+        args.addAll(Arrays.asList(extraArgs));
+        return SpringApplication.run(TodoAppApplication.class, args.toArray(new String[0]));
+    }
+
+    // 벤치마크용 사용자를 저장하고 반환
+    public static User createUser(ConfigurableApplicationContext context, String username) {
+        return context.getBean(UserRepository.class).save(new User(username, "benchmark-password"));
+    }
+
+    // 현재 스레드의 SecurityContext 에 사용자 인증 정보 설정
+    public static void authenticate(User user) {
+        CustomUserDetails principal = new CustomUserDetails(user.getId(), user.getUsername(), user.getPassword());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
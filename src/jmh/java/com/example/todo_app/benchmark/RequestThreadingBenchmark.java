@@ -0,0 +1,103 @@
+package com.example.todo_app.benchmark;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.model.User;
+import com.example.todo_app.security.JWTProvider;
+import com.example.todo_app.service.TodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 동시 요청이 많을 때 플랫폼 스레드(Tomcat 기본 풀) vs 가상 스레드(virtual 프로파일) 비교
+// 256개의 클라이언트 스레드가 인증된 목록 조회(JWT 검증 + JDBC)를 동시에 요청
+// Throughput 으로 처리량, SampleTime 으로 p99 지연 시간 측정
+// 가상 스레드는 Java 21 에서만 동작 : ./gradlew jmh -PjavaVersion=21 -Pjmh.includes=RequestThreadingBenchmark
+// Java 17 에서는 virtual 설정이 무시되어 플랫폼 스레드 결과가 나오므로, virtual 트라이얼은 실패로 처리
+// 스레드 모델만 비교하도록 커넥션 풀 크기는 두 경우 모두 같게 고정 (virtual 프로파일의 값과 같음)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(256)
+public class RequestThreadingBenchmark {
+
+    private static final int CATEGORY_ID = 1;
+    private static final int TODO_COUNT = 100;
+    private static final int POOL_SIZE = 8;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest listRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String poolSize = "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE;
+        if ("virtual".equals(threads)) {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("가상 스레드 비교는 Java 21 이상이 필요합니다 (현재 Java "
+                        + Runtime.version().feature() + ") : -PjavaVersion=21 로 실행하세요.");
+            }
+            context = BenchmarkSupport.startWebContext("--spring.profiles.active=virtual", poolSize);
+        } else {
+            context = BenchmarkSupport.startWebContext(poolSize);
+        }
+        User user = BenchmarkSupport.createUser(context, "threading-benchmark");
+
+        BenchmarkSupport.authenticate(user);
+        List<TodoDTO> todos = new ArrayList<>(TODO_COUNT);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            TodoDTO todo = new TodoDTO();
+            todo.setTitle("할 일 " + i);
+            todo.setTags(List.of("work", "tag-" + (i % 10)));
+            todos.add(todo);
+        }
+        context.getBean(TodoService.class).createTodosWithCategory(CATEGORY_ID, todos);
+        SecurityContextHolder.clearContext();
+
+        String token = context.getBean(JWTProvider.class).generateToken(user.getId());
+        String port = context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        listRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/todos/categories/" + CATEGORY_ID + "?limit=20"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int listTodos() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(listRequest, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("예상하지 못한 응답 코드: " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
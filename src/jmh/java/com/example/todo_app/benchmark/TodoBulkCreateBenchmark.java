@@ -0,0 +1,81 @@
+package com.example.todo_app.benchmark;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.model.User;
+import com.example.todo_app.service.TodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 할 일 N개 생성 : 한 건씩 생성(createTodoWithCategory) vs 일괄 생성(createTodosWithCategory)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TodoBulkCreateBenchmark {
+
+    private static final int CATEGORY_ID = 1;
+
+    @Param({"100", "500"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private JdbcTemplate jdbcTemplate;
+    private User user;
+    private List<TodoDTO> todos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startContext();
+        todoService = context.getBean(TodoService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("MERGE INTO categories (id, name) KEY (id) VALUES (?, ?)", CATEGORY_ID, "일");
+        user = BenchmarkSupport.createUser(context, "bulk-create-benchmark");
+
+        todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TodoDTO todo = new TodoDTO();
+            todo.setTitle("할 일 " + i);
+            todo.setTags(List.of("work", "tag-" + (i % 10)));
+            todo.setUserId(user.getId());
+            todos.add(todo);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteTodos() {
+        jdbcTemplate.update("DELETE FROM todo_tags");
+        jdbcTemplate.update("DELETE FROM todos");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void perItem(Blackhole blackhole) {
+        for (TodoDTO todo : todos) {
+            blackhole.consume(todoService.createTodoWithCategory(CATEGORY_ID, todo));
+        }
+    }
+
+    @Benchmark
+    public void bulk(Blackhole blackhole) {
+        BenchmarkSupport.authenticate(user);
+        blackhole.consume(todoService.createTodosWithCategory(CATEGORY_ID, todos));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.todo_app.benchmark;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// TodoDTO 목록의 Jackson 직렬화 비용 (Spring Boot 와 같은 설정의 ObjectMapper 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoJsonSerializationBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TodoDTO> todos;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TodoDTO.class));
+        todos = BenchmarkFixtures.todoDTOs(size);
+    }
+
+    @Benchmark
+    public byte[] serializeTodoList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(todos);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.todo_app.security;
+
+import com.example.todo_app.benchmark.BenchmarkSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.concurrent.TimeUnit;
+
+// JWT 생성 / 전체 검증(파싱 + HMAC) / 캐시를 사용하는 검증 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+    private JWTProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JWTProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtProvider, "SECRET_KEY", BenchmarkSupport.JWT_SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "tokenCacheMaxSize", 10000);
+        jwtProvider.init();
+        token = jwtProvider.generateToken(1);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtProvider.generateToken(1);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Integer resolveUserIdCached() {
+        return jwtProvider.resolveUserId(token);
+    }
+}
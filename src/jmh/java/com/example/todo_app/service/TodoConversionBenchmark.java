@@ -0,0 +1,57 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.benchmark.BenchmarkFixtures;
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.dto.UserDTO;
+import com.example.todo_app.model.Todo;
+import com.example.todo_app.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 -> DTO 변환 비용 : TodoService.convertToDTO (목록), UserService.convertToDTO (/users/me)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoConversionBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private TodoService todoService;
+    private UserService userService;
+    private User user;
+    private List<Todo> todos;
+
+    @Setup
+    public void setUp() {
+        // 변환 메서드는 Repository 를 사용하지 않으므로 의존성 없이 생성
+        todoService = new TodoService(null, null, null, null, null, null);
+        userService = new UserService(null, null, null, null, null, new ObjectMapper());
+        user = BenchmarkFixtures.user(size);
+        todos = user.getTodos();
+    }
+
+    @Benchmark
+    public List<TodoDTO> todoServiceConvertList() {
+        List<TodoDTO> result = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            result.add(todoService.convertToDTO(todo));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public UserDTO userServiceConvertToDTO() {
+        return userService.convertToDTO(user);
+    }
+}
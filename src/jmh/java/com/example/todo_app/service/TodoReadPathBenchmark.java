@@ -0,0 +1,124 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.benchmark.BenchmarkSupport;
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.dto.TodoPageDTO;
+import com.example.todo_app.dto.UserDTO;
+import com.example.todo_app.model.Todo;
+import com.example.todo_app.model.User;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 목록 조회 경로 : 엔티티 조회 후 DTO 변환 (이전 방식) vs TodoRow 프로젝션 + 태그 쌍 조회 (현재 방식)
+// 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 비교
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoReadPathBenchmark {
+
+    private static final int CATEGORY_ID = 1;
+    private static final int PAGE_SIZE = 200;
+
+    @Param({"1000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private UserService userService;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startContext();
+        todoService = context.getBean(TodoService.class);
+        userService = context.getBean(UserService.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        context.getBean(JdbcTemplate.class).update("MERGE INTO categories (id, name) KEY (id) VALUES (?, ?)", CATEGORY_ID, "일");
+        user = BenchmarkSupport.createUser(context, "read-path-benchmark");
+        BenchmarkSupport.authenticate(user);
+
+        List<TodoDTO> todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TodoDTO todo = new TodoDTO();
+            todo.setTitle("할 일 " + i);
+            todo.setTags(List.of("work", "tag-" + (i % 10)));
+            todos.add(todo);
+        }
+        for (int from = 0; from < size; from += 500) {
+            todoService.createTodosWithCategory(CATEGORY_ID, todos.subList(from, Math.min(from + 500, size)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoDTO> entityCategoryPage() {
+        BenchmarkSupport.authenticate(user);
+        return readOnlyTransaction.execute(status -> {
+            List<Todo> page = entityManager.createQuery(
+                            "SELECT t FROM Todo t WHERE t.user.id = :userId AND t.category.id = :categoryId " +
+                                    "ORDER BY t.position, t.id", Todo.class)
+                    .setParameter("userId", user.getId())
+                    .setParameter("categoryId", CATEGORY_ID)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            loadTags(page);
+            return page.stream().map(todoService::convertToDTO).collect(Collectors.toList());
+        });
+    }
+
+    @Benchmark
+    public TodoPageDTO projectionCategoryPage() {
+        BenchmarkSupport.authenticate(user);
+        return todoService.getTodosByCategory(CATEGORY_ID, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TodoDTO> entityCurrentUser() {
+        BenchmarkSupport.authenticate(user);
+        return readOnlyTransaction.execute(status -> {
+            List<Todo> todos = entityManager.createQuery(
+                            "SELECT DISTINCT t FROM Todo t LEFT JOIN FETCH t.tags WHERE t.user.id = :userId", Todo.class)
+                    .setParameter("userId", user.getId())
+                    .getResultList();
+            return todos.stream().map(todoService::convertToDTO).collect(Collectors.toList());
+        });
+    }
+
+    @Benchmark
+    public UserDTO projectionCurrentUser() {
+        BenchmarkSupport.authenticate(user);
+        return userService.getCurrentUser();
+    }
+
+    // 이전 방식과 같이 페이지의 태그를 한 번의 fetch join 으로 초기화
+    private void loadTags(List<Todo> page) {
+        entityManager.createQuery("SELECT DISTINCT t FROM Todo t LEFT JOIN FETCH t.tags WHERE t.id IN :ids", Todo.class)
+                .setParameter("ids", page.stream().map(Todo::getId).collect(Collectors.toList()))
+                .getResultList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.benchmark.BenchmarkFixtures;
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.model.Todo;
+import com.example.todo_app.model.User;
+import com.example.todo_app.repository.TodoRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+
+// updateTodoPositions 의 CPU 비용 (DB 제외) : 마지막 할 일을 맨 앞으로 옮긴 전체 ID 목록을 전달
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoReorderBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private TodoService todoService;
+    private List<Todo> todos;
+    private List<Integer> orderedIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User user = BenchmarkFixtures.user(size);
+        todos = user.getTodos();
+
+        TodoRepository todoRepository = Mockito.mock(TodoRepository.class);
+        Mockito.when(todoRepository.findWithTagsByIdIn(anyCollection())).thenReturn(todos);
+        todoService = new TodoService(todoRepository, null, null, null, null, event -> {});  // 이벤트는 버림
+
+        orderedIds = new ArrayList<>(size);
+        orderedIds.add(todos.get(size - 1).getId());
+        for (int i = 0; i < size - 1; i++) {
+            orderedIds.add(todos.get(i).getId());
+        }
+    }
+
+    // 매 호출 전에 원래 순서로 되돌림
+    @Setup(Level.Invocation)
+    public void resetPositions() {
+        for (int i = 0; i < todos.size(); i++) {
+            todos.get(i).setPosition((i + 1) * TodoPositions.GAP);
+        }
+    }
+
+    @Benchmark
+    public List<TodoDTO> moveLastToFront() {
+        return todoService.updateTodoPositions(orderedIds);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.todo_app.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 사용자 한 명의 할 일 100,000개에서 태그 검색 : 비트맵 색인(UserTagIndex) vs 전체 목록 순회(클라이언트 측 필터링과 같은 방식)
+// 태그는 200종류 중 할 일마다 3개, 카테고리 10개, 완료 1/3
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoTagIndexBenchmark {
+
+    private static final int TAG_COUNT = 200;
+
+    @Param({"100000"})
+    private int size;
+
+    private UserTagIndex index;
+    private List<Row> rows;
+    private List<String> twoTags;
+    private List<String> threeTags;
+    private int nextId;
+
+    // 순회 방식 비교용 할 일 한 건
+    private record Row(int id, int categoryId, boolean completed, List<String> tags) {}
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new UserTagIndex();
+        rows = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            // 앞쪽 태그일수록 자주 쓰이도록 치우친 분포
+            List<String> tags = List.of(tag(random), tag(random), tag(random));
+            Row row = new Row(id, 1 + id % 10, id % 3 == 0, tags);
+            rows.add(row);
+            index.upsert(row.id(), row.categoryId(), row.completed(), row.tags());
+        }
+        nextId = size + 1;
+        twoTags = List.of("tag-0", "tag-1");
+        threeTags = List.of("tag-10", "tag-20", "tag-30");
+    }
+
+    private static String tag(Random random) {
+        double skewed = Math.pow(random.nextDouble(), 2);
+        return "tag-" + (int) (skewed * TAG_COUNT);
+    }
+
+    @Benchmark
+    public int[] indexAllOfTwoTags() {
+        return index.search(twoTags, true, null, null);
+    }
+
+    @Benchmark
+    public int[] indexAnyOfThreeTags() {
+        return index.search(threeTags, false, null, null);
+    }
+
+    @Benchmark
+    public int[] indexAnyOfThreeTagsInCategoryIncomplete() {
+        return index.search(threeTags, false, 3, false);
+    }
+
+    @Benchmark
+    public List<Integer> scanAllOfTwoTags() {
+        List<Integer> ids = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.tags().containsAll(twoTags)) {
+                ids.add(row.id());
+            }
+        }
+        return ids;
+    }
+
+    @Benchmark
+    public List<Integer> scanAnyOfThreeTagsInCategoryIncomplete() {
+        List<Integer> ids = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.categoryId() == 3 && !row.completed() && row.tags().stream().anyMatch(threeTags::contains)) {
+                ids.add(row.id());
+            }
+        }
+        return ids;
+    }
+
+    // 증분 갱신 비용 : 할 일 하나 추가 후 태그 변경, 삭제
+    @Benchmark
+    public int incrementalUpsertAndRemove() {
+        int id = nextId++;
+        index.upsert(id, 1, false, List.of("tag-1", "tag-2"));
+        index.upsert(id, 1, true, List.of("tag-2", "tag-3"));
+        index.remove(id);
+        return id;
+    }
+}
@@ -2,8 +2,10 @@ package com.example.todo_app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling  // 삭제 기록 정리 등 주기 작업
 public class TodoAppApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,214 @@
+package com.example.todo_app.audit;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.event.TodoChangedEvent;
+import com.example.todo_app.event.TodosBulkChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 할 일 변경 이력(todo_history)을 비동기로 기록하는 write-behind 파이프라인
+// 1. 커밋된 변경 이벤트를 크기가 제한된 메모리 큐에 넣고 (요청 스레드는 INSERT 를 기다리지 않음)
+// 2. 백그라운드 스레드가 flush-interval 마다 최대 batch-size 개씩 묶어서 JDBC 배치 INSERT
+// 큐가 가득 차면 offer-timeout 만큼만 기다린 뒤 버리고(drop) 카운터를 올림. 종료 시에는 남은 이력을 모두 기록
+// 배치 INSERT 는 트랜잭션 하나로 실행해서, 실패하면 이미 들어간 행까지 모두 롤백한 뒤 한 건씩 다시 기록
+// (autocommit 이면 배치 중 성공한 행이 먼저 커밋되어 재기록 때 중복 이력이 생김)
+@Component
+public class TodoAuditWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoAuditWriter.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO todo_history (todo_id, change_description, changed_at) VALUES (?, ?, ?)";
+
+    // todo_history.change_description 컬럼 길이 (VARCHAR(255)). 긴 제목/태그 변경 설명은 잘라서 저장
+    static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<AuditRecord> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final ScheduledExecutorService writer;
+
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    // 큐에 들어가는 이력 한 건
+    private record AuditRecord(int todoId, String description, LocalDateTime changedAt) {}
+
+    public TodoAuditWriter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${todo.audit.queue-capacity:10000}") int queueCapacity,
+                           @Value("${todo.audit.batch-size:200}") int batchSize,
+                           @Value("${todo.audit.flush-interval-ms:1000}") long flushIntervalMillis,
+                           @Value("${todo.audit.offer-timeout-ms:5}") long offerTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "todo-audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.publishedCounter = Counter.builder("todo.audit.records").tag("result", "queued").register(meterRegistry);
+        this.droppedCounter = Counter.builder("todo.audit.records").tag("result", "dropped").register(meterRegistry);
+        this.writtenCounter = Counter.builder("todo.audit.records").tag("result", "written").register(meterRegistry);
+        this.failedCounter = Counter.builder("todo.audit.records").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("todo.audit.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 커밋된 변경만 이력으로 남김 (트랜잭션 밖에서 발행된 이벤트도 처리)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        enqueue(event.getTodoId(), describe(event));
+    }
+
+    // 일괄 변경은 대상 할 일마다 같은 설명으로 기록
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodosBulkChanged(TodosBulkChangedEvent event) {
+        for (int todoId : event.getTodoIds()) {
+            enqueue(todoId, event.getDescription());
+        }
+    }
+
+    // 이력 한 건을 큐에 추가. 큐가 가득 차 있으면 잠깐 기다린 뒤 버림
+    public void enqueue(int todoId, String description) {
+        AuditRecord record = new AuditRecord(todoId, truncate(description), LocalDateTime.now());
+        try {
+            if (queue.offer(record, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                publishedCounter.increment();
+            } else {
+                droppedCounter.increment();
+                logger.warn("감사 이력 큐가 가득 차서 이력을 버립니다: todoId={}", todoId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCounter.increment();
+        }
+    }
+
+    // 큐에 쌓인 이력을 batch-size 단위로 모두 기록
+    public void flush() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, record) -> {
+                            ps.setInt(1, record.todoId());
+                            ps.setString(2, record.description());
+                            ps.setTimestamp(3, Timestamp.valueOf(record.changedAt()));
+                        }));
+                writtenCounter.increment(batch.size());
+            } catch (RuntimeException e) {
+                logger.warn("감사 이력 배치 {}건 기록에 실패해서 롤백하고 한 건씩 다시 기록합니다.", batch.size(), e);
+                writeOneByOne(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    // 배치 실패 시 한 건씩 기록 (실패한 이력만 버림)
+    private void writeOneByOne(List<AuditRecord> batch) {
+        for (AuditRecord record : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, record.todoId(), record.description(), Timestamp.valueOf(record.changedAt()));
+                writtenCounter.increment();
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                logger.error("감사 이력 기록에 실패했습니다: todoId={}", record.todoId(), e);
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("감사 이력 기록 중 오류가 발생했습니다.", e);  // 예외가 나도 다음 주기는 계속 실행
+        }
+    }
+
+    // 종료 시 주기 작업을 멈추고 남은 이력을 모두 기록
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(flushIntervalMillis + 5000, TimeUnit.MILLISECONDS);
+        flush();
+        logger.info("감사 이력 기록기 종료: 남은 이력을 모두 기록했습니다.");
+    }
+
+    public long getDroppedCount() {
+        return (long) droppedCounter.count();
+    }
+
+    // 변경 이벤트를 사람이 읽을 수 있는 설명으로 변환
+    static String describe(TodoChangedEvent event) {
+        TodoDTO before = event.getBefore();
+        TodoDTO after = event.getAfter();
+        switch (event.getType()) {
+            case CREATED:
+                return "생성: " + after.getTitle();
+            case DELETED:
+                return "삭제: " + before.getTitle();
+            default:
+                List<String> changes = new ArrayList<>();
+                addChange(changes, "제목", before.getTitle(), after.getTitle());
+                addChange(changes, "완료", before.getCompleted(), after.getCompleted());
+                addChange(changes, "마감 기한", before.getDueDate(), after.getDueDate());
+                addChange(changes, "우선순위", before.getPriority(), after.getPriority());
+                addChange(changes, "순서", before.getPosition(), after.getPosition());
+                addChange(changes, "태그", before.getTags(), after.getTags());
+                String prefix = (event.getType() == TodoChangedEvent.Type.MOVED) ? "이동" : "수정";
+                return changes.isEmpty() ? prefix : prefix + ": " + String.join(", ", changes);
+        }
+    }
+
+    // 컬럼 길이를 넘는 설명은 잘라서 끝에 "..." 표시
+    static String truncate(String description) {
+        if (description == null || description.length() <= MAX_DESCRIPTION_LENGTH) {
+            return description;
+        }
+        return description.substring(0, MAX_DESCRIPTION_LENGTH - 3) + "...";
+    }
+
+    private static void addChange(List<String> changes, String field, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            changes.add(field + " " + before + " -> " + after);
+        }
+    }
+}
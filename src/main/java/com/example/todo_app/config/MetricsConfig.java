@@ -0,0 +1,35 @@
+package com.example.todo_app.config;
+
+import com.example.todo_app.metrics.QueryCountInspector;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 메트릭 설정 : @Timed 처리, 요청별 SQL 문 개수 측정
+// 수집된 메트릭은 /actuator/prometheus 로 노출됨 (HikariCP 커넥션 풀 메트릭은 Spring Boot 가 자동 등록)
+@Configuration
+public class MetricsConfig {
+
+    // @Timed 가 붙은 클래스/메서드의 실행 시간을 Timer 로 기록
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // Hibernate 가 실행하는 모든 SQL 문을 QueryCountInspector 로 전달
+    // 다른 설정이 이미 StatementInspector 를 등록했으면 덮어쓰지 않고 이어서 실행
+    @Bean
+    public HibernatePropertiesCustomizer queryCountCustomizer() {
+        return hibernateProperties -> {
+            StatementInspector queryCount = new QueryCountInspector();
+            Object previous = hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR);
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, (previous instanceof StatementInspector inspector)
+                    ? (StatementInspector) sql -> queryCount.inspect(inspector.inspect(sql))
+                    : queryCount);
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.todo_app.config;
+
+import com.example.todo_app.datasource.ReadWriteRoutingDataSource;
+import com.example.todo_app.datasource.ReadYourWritesTracker;
+import com.example.todo_app.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// 읽기 복제본 라우팅 (todo.datasource.replicas.urls 가 있을 때만 사용, 없으면 Spring Boot 기본 DataSource 하나로 동작)
+// 애플리케이션이 쓰는 DataSource = LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource(기본 DB, 복제본들))
+// 기본 DB 커넥션 풀은 spring.datasource.* / spring.datasource.hikari.* 설정을 그대로 사용하고, Flyway 마이그레이션도 기본 DB 에 실행
+// 복제본마다 별도 커넥션 풀(replica-0, replica-1, ...)을 만들어서, 읽기가 쓰기와 같은 풀을 두고 경쟁하지 않도록 함
+@Configuration
+@ConditionalOnProperty(prefix = "todo.datasource.replicas", name = "urls")
+public class ReadReplicaConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");  // spring.datasource.hikari.pool-name 이 있으면 그 값으로 덮어씀
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource, MeterRegistry meterRegistry,
+                                               @Value("${todo.datasource.replicas.urls}") String[] urls,
+                                               @Value("${todo.datasource.replicas.username:sa}") String username,
+                                               @Value("${todo.datasource.replicas.password:}") String password,
+                                               @Value("${todo.datasource.replicas.pool-size:10}") int poolSize,
+                                               @Value("${todo.datasource.replicas.max-lag-ms:1000}") long maxLagMillis,
+                                               @Value("${todo.datasource.replicas.migrate:false}") boolean migrate) {
+        List<HikariDataSource> replicas = new ArrayList<>(urls.length);
+        for (String url : urls) {
+            String replicaUrl = url.trim();
+            if (migrate) {
+                // 실제 복제가 없는 로컬 대역(stand-in) 복제본에 스키마를 만들 때만 사용
+                Flyway.configure().dataSource(replicaUrl, username, password).load().migrate();
+            }
+            HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class)
+                    .url(replicaUrl).username(username).password(password).build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));  // hikaricp.* 메트릭 (pool 태그)
+            replicas.add(replica);
+        }
+        return new ReplicaLagMonitor(primaryDataSource, replicas, maxLagMillis, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${todo.datasource.read-your-writes-ms:5000}") long windowMillis,
+                                                       @Value("${todo.datasource.read-your-writes-max-users:10000}") int maxUsers) {
+        return new ReadYourWritesTracker(windowMillis, maxUsers);
+    }
+
+    // JPA, JdbcTemplate 등 애플리케이션 전체가 사용하는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing =
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaLagMonitor, readYourWritesTracker, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
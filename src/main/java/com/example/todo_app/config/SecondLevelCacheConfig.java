@@ -0,0 +1,80 @@
+package com.example.todo_app.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+// Hibernate 2차 캐시 (JCache + Ehcache, 힙 메모리)
+// 카테고리(읽기 전용), 할 일과 태그 컬렉션(읽기/쓰기), 카테고리별 목록 쿼리 결과를 캐시
+// 영역(region)별 최대 항목 수와 만료 시간은 todo.cache.* 로 설정, 최대 항목 수를 넘으면 Ehcache 가 오래된 항목부터 제거
+// 적중/실패는 hibernate.second.level.cache.* / hibernate.cache.query.*, 영역별 제거(eviction)는 cache.evictions 메트릭으로 노출
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String CATEGORY_REGION = "category";
+    public static final String TODO_REGION = "todo";
+    public static final String TODO_TAGS_REGION = "todo.tags";
+    public static final String CATEGORY_PAGE_QUERY_REGION = "todo.category-pages";
+
+    // Hibernate 가 쿼리 캐시를 켜면 항상 사용하는 기본 영역
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // Hibernate 전용 CacheManager. 테스트처럼 컨텍스트가 여러 개 떠도 서로 섞이지 않도록 URI 를 컨텍스트마다 다르게 지정
+    @Bean
+    public CacheManager hibernateCacheManager(MeterRegistry meterRegistry,
+                                              @Value("${todo.cache.category.max-entries:100}") long categoryMaxEntries,
+                                              @Value("${todo.cache.todo.max-entries:10000}") long todoMaxEntries,
+                                              @Value("${todo.cache.todo.ttl-seconds:600}") long todoTtlSeconds,
+                                              @Value("${todo.cache.query.max-entries:1000}") long queryMaxEntries,
+                                              @Value("${todo.cache.query.ttl-seconds:60}") long queryTtlSeconds) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("todo-app-hibernate-" + UUID.randomUUID()),
+                new DefaultConfiguration(provider.getDefaultClassLoader()));
+
+        createRegion(cacheManager, meterRegistry, CATEGORY_REGION, categoryMaxEntries, null);  // 카테고리는 거의 바뀌지 않으므로 만료 없음
+        createRegion(cacheManager, meterRegistry, TODO_REGION, todoMaxEntries, Duration.ofSeconds(todoTtlSeconds));
+        createRegion(cacheManager, meterRegistry, TODO_TAGS_REGION, todoMaxEntries, Duration.ofSeconds(todoTtlSeconds));
+        createRegion(cacheManager, meterRegistry, CATEGORY_PAGE_QUERY_REGION, queryMaxEntries, Duration.ofSeconds(queryTtlSeconds));
+        createRegion(cacheManager, meterRegistry, DEFAULT_QUERY_REGION, queryMaxEntries, Duration.ofSeconds(queryTtlSeconds));
+        // 테이블별 마지막 수정 시각 : 쿼리 캐시 결과가 유효한지 판단하는 데 쓰이므로 만료/제거되면 안 됨 (항목 수 = 테이블 수)
+        createRegion(cacheManager, meterRegistry, UPDATE_TIMESTAMPS_REGION, 1000, null);
+        return cacheManager;
+    }
+
+    // Hibernate 가 위 CacheManager 를 사용하도록 전달. 설정되지 않은 영역을 쓰려고 하면 시작 시 실패
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, MeterRegistry meterRegistry, String region,
+                                     long maxEntries, Duration timeToLive) {
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries));
+        if (timeToLive != null) {
+            builder = builder.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive));
+        }
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(builder));
+        cacheManager.enableStatistics(region, true);
+        JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(region));
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.todo_app.config;
 
+import com.example.todo_app.metrics.TimedPasswordEncoder;
+import com.example.todo_app.security.BCryptStrengthCalibrator;
 import com.example.todo_app.security.JWTProvider;
 import com.example.todo_app.security.JwtAuthenticationFilter;
 import com.example.todo_app.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,6 +33,9 @@ public class SecurityConfig {
     private final CustomUserDetailsService customUserDetailsService;
     private final JWTProvider jwtProvider;
 
+    // 관리 서버(management.server.port)가 실제로 열린 포트. 열리기 전이나 별도 관리 서버가 없으면 -1
+    private volatile int managementPort = -1;
+
     // CustomUserDetailsService 를 주입받아 인증 설정에 사용
     public SecurityConfig(CustomUserDetailsService customUserDetailsService, JWTProvider jwtProvider) {
         this.customUserDetailsService = customUserDetailsService;
@@ -33,9 +44,14 @@ public class SecurityConfig {
 
     @Bean
     // passwordEncoder : 비밀번호를 암호화하여 저장하고 비교할때 사용
-    public PasswordEncoder passwordEncoder() {
-        // BCrypt 암호화 알고리즘을 사용하여 비밀번호를 안전하게 처리
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${security.password-hashing.strength:0}") int strength,
+                                           @Value("${security.password-hashing.target-ms:250}") long targetMillis) {
+        // BCrypt cost 를 지정하지 않으면(0) 시작 시 해시 한 번이 목표 시간에 가깝도록 자동으로 계산
+        // cost 가 올라가면 기존 해시는 upgradeEncoding 이 true 가 되어 다음 로그인 시 다시 암호화됨
+        int bcryptStrength = (strength > 0) ? strength : BCryptStrengthCalibrator.calibrate(targetMillis);
+        // BCrypt 암호화 알고리즘을 사용하여 비밀번호를 안전하게 처리 (처리 시간은 password.encoder 메트릭으로 기록)
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), meterRegistry);
     }
 
     @Bean
@@ -43,7 +59,28 @@ public class SecurityConfig {
         return new JwtAuthenticationFilter(jwtProvider, customUserDetailsService);
     }
 
+    // 관리 서버가 뜨면 포트를 기록 (management.server.port=0 처럼 임의 포트여도 실제 포트를 사용)
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        if ("management".equals(event.getApplicationContext().getServerNamespace())) {
+            managementPort = event.getWebServer().getPort();
+        }
+    }
+
+    // 관리 포트로 들어온 요청(/actuator/health, /actuator/prometheus)은 인증 없이 허용
+    // 관리 포트는 내부 인터페이스(management.server.address)에만 열려 있어서 외부 사용자는 접근할 수 없음
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(request -> request.getLocalPort() == managementPort)
+            .csrf(AbstractHttpConfigurer::disable)
+            .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             // CSRF(Cross-Site Request Forgery) JWT 사용시 일반적으로 필요 없음
@@ -56,7 +93,10 @@ public class SecurityConfig {
             )
             // 요청 경로별 접근 권한 설정
             .authorizeHttpRequests(auth -> auth
+                // 스트리밍 응답(StreamingResponseBody)의 ASYNC 디스패치는 최초 요청에서 이미 인증을 통과했으므로 허용
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/h2-console/**").permitAll() // 이 경로는 인증 없이 접근 가능
+                .requestMatchers("/actuator/**").denyAll() // 메트릭은 관리 포트로만 제공 (앱 사용자 JWT 로도 접근 불가)
                 .requestMatchers("/users/register", "/users/login", "/todos/categories").permitAll() // 이 경로는 인증 없이 접근 가능
                 .requestMatchers("/users/me").authenticated() // 인증 필요
                 .anyRequest().authenticated() // 그 외 요청은 인증 필요
@@ -80,11 +120,11 @@ public class SecurityConfig {
 
     @Bean
     // AuthenticationManager: Spring Security 에서 인증을 관리하는 핵심 컴포넌트
-    public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
+    public AuthenticationManager authenticationManager(HttpSecurity http, PasswordEncoder passwordEncoder) throws Exception {
         AuthenticationManagerBuilder auth = http.getSharedObject(AuthenticationManagerBuilder.class);
         // userDetailsService(customUserDetailsService)와 passwordEncoder(passwordEncoder())를 사용하여 인증에 필요한 사용자 정보를 로드하고,
         // 비밀번호를 검증하는 과정을 설정
-        auth.userDetailsService(customUserDetailsService).passwordEncoder(passwordEncoder());
+        auth.userDetailsService(customUserDetailsService).passwordEncoder(passwordEncoder);
         return auth.build();
     }
 }
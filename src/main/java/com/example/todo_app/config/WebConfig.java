@@ -17,8 +17,9 @@ public class WebConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")  // 모든 경로에 대해
                 .allowedOrigins("http://localhost:3000")  // 허용할 도메인 (프론트엔드 URL)
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")  // 필요한 메서드를 허용
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")  // 필요한 메서드를 허용
                 .allowedHeaders("*")  // 모든 헤더 허용
+                .exposedHeaders("ETag")  // 조건부 조회(If-None-Match)에 사용할 ETag 를 프론트엔드에서 읽을 수 있도록 노출
                 .allowCredentials(true);  // 인증 정보 허용 (쿠키 등)
     }
 }
@@ -1,24 +1,55 @@
 package com.example.todo_app.controller;
 
+import com.example.todo_app.dto.TodoBulkResultDTO;
+import com.example.todo_app.dto.TodoBulkUpdateDTO;
+import com.example.todo_app.dto.TodoChangesDTO;
 import com.example.todo_app.dto.TodoDTO;
-import com.example.todo_app.model.Category;
-import com.example.todo_app.model.Todo;
+import com.example.todo_app.dto.TodoMoveRequestDTO;
+import com.example.todo_app.dto.TodoPageDTO;
+import com.example.todo_app.dto.TodoSelectorDTO;
+import com.example.todo_app.dto.TodoStatsDTO;
+import com.example.todo_app.security.SecurityUtils;
+import com.example.todo_app.service.CategoryService;
+import com.example.todo_app.service.TodoBulkService;
+import com.example.todo_app.service.ChangeCursorExpiredException;
+import com.example.todo_app.service.TodoListVersions;
 import com.example.todo_app.service.TodoService;
+import com.example.todo_app.service.TodoStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/todos")
 public class TodoController {
 
+    // 카테고리 목록은 거의 바뀌지 않으므로 브라우저/프록시 캐시 허용 (만료 후에는 ETag 로 재검증)
+    private static final CacheControl CATEGORY_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic();
+
+    // 할 일 목록은 매번 ETag 로 재검증 (사용자별 데이터이므로 공유 캐시에는 저장하지 않음)
+    private static final CacheControl TODO_LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final TodoService todoService;
+    private final CategoryService categoryService;
+    private final TodoListVersions todoListVersions;
+    private final TodoStatsService todoStatsService;
+    private final TodoBulkService todoBulkService;
 
-    @Autowired  // 생성자 주입으로 TodoService 와 CategoryService 를 주입
-    public TodoController(TodoService todoService) {
+    @Autowired  // 생성자 주입으로 TodoService, CategoryService, TodoListVersions, TodoStatsService, TodoBulkService 를 주입
+    public TodoController(TodoService todoService, CategoryService categoryService, TodoListVersions todoListVersions,
+                          TodoStatsService todoStatsService, TodoBulkService todoBulkService) {
         this.todoService = todoService;
+        this.categoryService = categoryService;
+        this.todoListVersions = todoListVersions;
+        this.todoStatsService = todoStatsService;
+        this.todoBulkService = todoBulkService;
     }
 
     // 할 일 생성
@@ -28,32 +59,121 @@ public class TodoController {
         return new ResponseEntity<>(createdTodo, HttpStatus.CREATED);
     }
 
+    // 할 일 일괄 생성 (한 번의 요청으로 최대 500개)
+    @PostMapping("/categories/{categoryId}/bulk")
+    public ResponseEntity<List<TodoDTO>> createTodos(@PathVariable int categoryId, @RequestBody List<TodoDTO> todoDTOs) {
+        List<TodoDTO> createdTodos = todoService.createTodosWithCategory(categoryId, todoDTOs);
+        return new ResponseEntity<>(createdTodos, HttpStatus.CREATED);
+    }
+
     // 모든 카테고리 조회
+    // 메모리에 미리 직렬화해 둔 JSON 을 그대로 응답하고, If-None-Match 가 ETag 와 같으면 304 로 응답 (DB 조회, 직렬화 없음)
     @GetMapping("/categories")
-    public ResponseEntity<List<Category>> getAllCategories() {
-        List<Category> categories = todoService.getAllCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getAllCategories(WebRequest request) {
+        CategoryService.Catalog catalog = categoryService.getCatalog();
+        if (request.checkNotModified(catalog.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(catalog.getEtag())
+                    .cacheControl(CATEGORY_CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .cacheControl(CATEGORY_CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.getJson());
     }
 
     // 카테고리별 할 일 조회 (카테고리 클릭 시 할 일 목록을 보여줌)
+    // cursor : 이전 응답의 nextCursor (없으면 첫 페이지), limit : 페이지 크기 (최대 200)
+    // 목록이 바뀌지 않았으면(If-None-Match 가 현재 ETag 와 같으면) 조회 없이 304
     @GetMapping("/categories/{categoryId}")
-    public ResponseEntity<List<TodoDTO>> getTodosByCategory(@PathVariable int categoryId) {
-        List<TodoDTO> todosByCategory = todoService.getTodosByCategory(categoryId);
-        return ResponseEntity.ok(todosByCategory);
+    public ResponseEntity<TodoPageDTO> getTodosByCategory(@PathVariable int categoryId,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "50") int limit,
+                                                          WebRequest request) {
+        return conditionalList(categoryId, request, () -> todoService.getTodosByCategory(categoryId, cursor, limit));
     }
 
     // 카테고리 내 완료되지 않은 할 일 조회
     @GetMapping("/categories/{categoryId}/incomplete")
-    public ResponseEntity<List<TodoDTO>> getIncompleteTodosByCategory(@PathVariable int categoryId) {
-        List<TodoDTO> incompleteTodos = todoService.getIncompleteTodosByCategory(categoryId);
-        return ResponseEntity.ok(incompleteTodos);
+    public ResponseEntity<TodoPageDTO> getIncompleteTodosByCategory(@PathVariable int categoryId,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "50") int limit,
+                                                                    WebRequest request) {
+        return conditionalList(categoryId, request, () -> todoService.getIncompleteTodosByCategory(categoryId, cursor, limit));
     }
 
     // 카테고리 내 완료된 할 일 조회
     @GetMapping("/categories/{categoryId}/completed")
-    public ResponseEntity<List<TodoDTO>> getCompletedTodosByCategory(@PathVariable int categoryId) {
-        List<TodoDTO> completedTodos = todoService.getCompletedTodosByCategory(categoryId);
-        return ResponseEntity.ok(completedTodos);
+    public ResponseEntity<TodoPageDTO> getCompletedTodosByCategory(@PathVariable int categoryId,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "50") int limit,
+                                                                   WebRequest request) {
+        return conditionalList(categoryId, request, () -> todoService.getCompletedTodosByCategory(categoryId, cursor, limit));
+    }
+
+    // (사용자, 카테고리) 목록 버전을 ETag 로 사용하는 조건부 조회
+    // ETag 는 조회보다 먼저 읽음 -> 조회 도중 목록이 바뀌어도 오래된 응답이 새 ETag 로 캐시되지 않음
+    private ResponseEntity<TodoPageDTO> conditionalList(int categoryId, WebRequest request, Supplier<TodoPageDTO> loader) {
+        String etag = todoListVersions.etag(SecurityUtils.getCurrentUserId(), categoryId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(TODO_LIST_CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(TODO_LIST_CACHE_CONTROL)
+                .body(loader.get());
+    }
+
+    // 카테고리별 할 일 통계 (전체, 완료, 기한 초과, 우선순위별). 메모리 카운터에서 바로 응답
+    // verify=true 이면 DB 집계 쿼리로 검증한 결과를 응답
+    @GetMapping("/stats")
+    public ResponseEntity<List<TodoStatsDTO>> getStats(@RequestParam(defaultValue = "false") boolean verify) {
+        List<TodoStatsDTO> stats = verify ? todoStatsService.verifyStats() : todoStatsService.getStats();
+        return ResponseEntity.ok(stats);
+    }
+
+    // 태그로 할 일 검색 : /todos/tagged?tags=work,home&match=any&categoryId=1&completed=false
+    // match=all(기본) 이면 모든 태그를 가진 할 일, any 이면 하나 이상 가진 할 일
+    @GetMapping("/tagged")
+    public ResponseEntity<TodoPageDTO> searchByTags(@RequestParam List<String> tags,
+                                                    @RequestParam(defaultValue = "all") String match,
+                                                    @RequestParam(required = false) Integer categoryId,
+                                                    @RequestParam(required = false) Boolean completed,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "50") int limit) {
+        boolean matchAll;
+        if ("all".equalsIgnoreCase(match)) {
+            matchAll = true;
+        } else if ("any".equalsIgnoreCase(match)) {
+            matchAll = false;
+        } else {
+            throw new IllegalArgumentException("match 는 all 또는 any 여야 합니다: " + match);
+        }
+        TodoPageDTO todos = todoService.searchByTags(tags, matchAll, categoryId, completed, cursor, limit);
+        return ResponseEntity.ok(todos);
+    }
+
+    // 제목 검색 : /todos/search?q=우유 사기 (검색어의 모든 단어가 제목에 포함된 할 일, 순위순)
+    @GetMapping("/search")
+    public ResponseEntity<TodoPageDTO> searchByTitle(@RequestParam("q") String query,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        TodoPageDTO todos = todoService.searchByTitle(query, cursor, limit);
+        return ResponseEntity.ok(todos);
+    }
+
+    // 변경 사항 조회 : since 커서 이후 생성/수정/삭제된 할 일만 응답 (목록 전체를 다시 받지 않고 동기화)
+    // 처음에는 since 없이 호출해서 전체를 받고, 이후에는 응답의 nextCursor 를 since 로 전달
+    @GetMapping("/changes")
+    public ResponseEntity<TodoChangesDTO> getChanges(@RequestParam(required = false) String since,
+                                                     @RequestParam(defaultValue = "200") int limit) {
+        TodoChangesDTO changes = todoService.getChanges(since, limit);
+        return ResponseEntity.ok(changes);
     }
 
     // 카테고리별 할 일 일괄 업데이트
@@ -63,6 +183,29 @@ public class TodoController {
         return ResponseEntity.ok(updatedTodo);
     }
 
+    // 조건에 맞는 할 일 일괄 수정 (한 번에 최대 1000개)
+    // 예: {"selector": {"categoryId": 1, "completed": false}, "completed": true}
+    // 응답 : 변경된 할 일 수, 변경 시각, 변경된 카테고리 목록의 새 ETag
+    @PatchMapping("/bulk")
+    public ResponseEntity<TodoBulkResultDTO> updateTodos(@RequestBody TodoBulkUpdateDTO request) {
+        TodoBulkResultDTO result = todoBulkService.updateTodos(request);
+        return ResponseEntity.ok(result);
+    }
+
+    // 조건에 맞는 할 일 일괄 삭제 (한 번에 최대 1000개). 예: {"ids": [1, 2, 3]}
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<TodoBulkResultDTO> deleteTodos(@RequestBody TodoSelectorDTO selector) {
+        TodoBulkResultDTO result = todoBulkService.deleteTodos(selector);
+        return ResponseEntity.ok(result);
+    }
+
+    // 카테고리의 완료된 할 일 모두 삭제
+    @DeleteMapping("/categories/{categoryId}/completed")
+    public ResponseEntity<TodoBulkResultDTO> clearCompleted(@PathVariable int categoryId) {
+        TodoBulkResultDTO result = todoBulkService.clearCompleted(categoryId);
+        return ResponseEntity.ok(result);
+    }
+
     // 드래그 앤 드롭을 통해 우선순위 업데이트
     @PutMapping("/reorder")
     public ResponseEntity<List<TodoDTO>> reorderTodos(@RequestBody List<Integer> orderedTodoIds) {
@@ -70,6 +213,14 @@ public class TodoController {
         return ResponseEntity.ok(updatedTodos);
     }
 
+    // 드래그 앤 드롭으로 할 일 하나를 이동 ("id 할 일을 afterId 할 일 뒤로")
+    // 전체 ID 목록을 보내지 않아도 되며, 보통 이동한 할 일 한 행만 수정됨
+    @PutMapping("/{id}/move")
+    public ResponseEntity<TodoDTO> moveTodo(@PathVariable int id, @RequestBody TodoMoveRequestDTO request) {
+        TodoDTO movedTodo = todoService.moveTodo(id, request.getAfterId());
+        return ResponseEntity.ok(movedTodo);
+    }
+
     // 단일 할 일 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTodoById(@PathVariable int id) {
@@ -77,4 +228,16 @@ public class TodoController {
         todoService.deleteTodoById(id);
         return ResponseEntity.noContent().build();
     }
+
+    // 잘못된 요청 파라미터(커서, limit 등)는 400 으로 응답
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    // 삭제 기록 보존 기간보다 오래된 커서는 410 으로 응답 -> 클라이언트가 전체를 다시 동기화
+    @ExceptionHandler(ChangeCursorExpiredException.class)
+    public ResponseEntity<String> handleChangeCursorExpired(ChangeCursorExpiredException e) {
+        return ResponseEntity.status(HttpStatus.GONE).body(e.getMessage());
+    }
 }
@@ -3,12 +3,17 @@ package com.example.todo_app.controller;
 import com.example.todo_app.dto.LoginRequestDTO;
 import com.example.todo_app.dto.RegisterRequestDTO;
 import com.example.todo_app.dto.UserDTO;
+import com.example.todo_app.security.PasswordHashingRejectedException;
+import com.example.todo_app.security.SecurityUtils;
 import com.example.todo_app.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.Optional;
 
 @RestController  // Restfull 웹 서비스의 컨트롤러로 사용
@@ -58,4 +63,24 @@ public class UserController {
         UserDTO currentUser = userService.getCurrentUser();  // Service 계층에서 SecurityContext 를 활용
         return ResponseEntity.ok(currentUser);
     }
+
+    // 현재 로그인한 사용자 정보 스트리밍 조회 (Accept: application/x-ndjson)
+    // 할 일이 많은 사용자도 메모리 사용량이 일정하고, 첫 바이트가 바로 전송됨
+    @GetMapping(value = "/me", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamCurrentUser() {
+        // 스트리밍은 별도 스레드에서 실행되므로, 사용자 ID 는 요청 스레드에서 미리 꺼내둠
+        int userId = SecurityUtils.getCurrentUserId();
+        StreamingResponseBody body = out -> userService.streamCurrentUser(userId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    // 비밀번호 해시 실행기가 과부하 상태이면 바로 503 과 Retry-After 로 응답 (요청 스레드가 쌓이지 않도록)
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<String> handlePasswordHashingRejected(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
 }
@@ -0,0 +1,78 @@
+package com.example.todo_app.datasource;
+
+import com.example.todo_app.security.SecurityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+// 트랜잭션 종류에 따라 기본 DB 또는 복제본으로 커넥션을 보내는 DataSource
+// - @Transactional(readOnly = true) 서비스 메서드 : 지연 기준을 만족하는 복제본 (없으면 기본 DB)
+// - 그 외 (쓰기 트랜잭션, 트랜잭션 밖, Spring Data 리포지토리의 기본 readOnly 트랜잭션) : 기본 DB
+//   리포지토리 기본 트랜잭션은 회원가입 중복 검사, 로그인, JWT 사용자 조회처럼 방금 쓴 데이터를 읽어야 하는 곳에서 쓰이므로 복제본으로 보내지 않음
+// - 최근에 쓰기를 커밋한 사용자의 읽기 : 기본 DB (ReadYourWritesTracker)
+// readOnly 여부는 트랜잭션이 시작된 뒤에야 정해지므로, 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 SQL 실행 시점에 커넥션을 골라야 함
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    // Spring Data 가 리포지토리 메서드에 붙이는 기본 트랜잭션의 이름 (메서드 이름 앞부분)
+    private static final String REPOSITORY_TRANSACTION_PREFIX = "org.springframework.data.";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaLagMonitor replicaLagMonitor,
+                                      ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (ReplicaLagMonitor.Replica replica : replicaLagMonitor.getReplicas()) {
+            targets.put(replica.getName(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        // readOnly 서비스 트랜잭션이 어디로 갔는지 : 복제본 / 최근 쓰기로 기본 DB / 사용할 복제본이 없어 기본 DB
+        this.replicaReads = Counter.builder("todo.datasource.reads").tag("route", "replica").register(meterRegistry);
+        this.stickyReads = Counter.builder("todo.datasource.reads").tag("route", "sticky").register(meterRegistry);
+        this.fallbackReads = Counter.builder("todo.datasource.reads").tag("route", "fallback").register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.recordOnCommit();
+            return PRIMARY;
+        }
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transactionName == null || transactionName.startsWith(REPOSITORY_TRANSACTION_PREFIX)) {
+            return PRIMARY;
+        }
+
+        Integer userId = SecurityUtils.findCurrentUserId();
+        if (userId != null && readYourWritesTracker.isSticky(userId)) {
+            stickyReads.increment();
+            return PRIMARY;
+        }
+        ReplicaLagMonitor.Replica replica = replicaLagMonitor.pick();
+        if (replica == null) {
+            fallbackReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica.getName();
+    }
+}
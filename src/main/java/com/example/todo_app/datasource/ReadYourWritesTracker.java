@@ -0,0 +1,44 @@
+package com.example.todo_app.datasource;
+
+import com.example.todo_app.security.SecurityUtils;
+import com.example.todo_app.utils.LruCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// read-your-writes : 사용자가 쓰기 트랜잭션을 커밋한 뒤 windowMillis 동안은 그 사용자의 읽기도 기본 DB 로 보냄
+// 복제본은 기본 DB 보다 늦게 반영되므로, 방금 바꾼 내용이 다음 조회에서 사라져 보이는 일을 막음
+// 사용자별 마지막 쓰기 시각은 최근 쓰기 순으로 maxUsers 명까지만 메모리에 보관 (애플리케이션 인스턴스마다 따로 유지)
+public class ReadYourWritesTracker {
+
+    private final long windowMillis;
+    private final LruCache<Integer, Long> lastWrites;
+
+    public ReadYourWritesTracker(long windowMillis, int maxUsers) {
+        this.windowMillis = windowMillis;
+        this.lastWrites = new LruCache<>(maxUsers);
+    }
+
+    // 현재 트랜잭션이 커밋되면 현재 사용자의 쓰기로 기록 (인증되지 않은 요청이나 트랜잭션 밖이면 무시)
+    public void recordOnCommit() {
+        Integer userId = SecurityUtils.findCurrentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(userId);
+            }
+        });
+    }
+
+    public void recordWrite(int userId) {
+        lastWrites.put(userId, System.currentTimeMillis());
+    }
+
+    // 최근 windowMillis 안에 쓰기를 커밋한 사용자인지
+    public boolean isSticky(int userId) {
+        Long lastWrite = lastWrites.get(userId);
+        return lastWrite != null && System.currentTimeMillis() - lastWrite < windowMillis;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.todo_app.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 복제본별 복제 지연을 하트비트로 측정
+// probe 마다 기본 DB 의 replication_heartbeat 에 현재 시각을 쓰고, 각 복제본에 복제된 값을 읽어 (현재 시각 - 읽은 값) 을 지연으로 봄
+// 지연이 maxLagMillis 이하인 복제본만 읽기에 사용하고, 확인에 실패한 복제본(연결 실패 등)은 다음 확인까지 제외
+// 시작 후 첫 확인 전에는 모든 복제본이 제외되므로 읽기도 기본 DB 로 감
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String WRITE_HEARTBEAT_SQL = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String READ_HEARTBEAT_SQL = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaLagMonitor(DataSource primary, List<HikariDataSource> replicaDataSources, long maxLagMillis,
+                             MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.maxLagMillis = maxLagMillis;
+        List<Replica> replicas = new ArrayList<>(replicaDataSources.size());
+        for (HikariDataSource dataSource : replicaDataSources) {
+            Replica replica = new Replica(dataSource.getPoolName(), dataSource);
+            Gauge.builder("todo.datasource.replica.lag", replica, Replica::getLagMillis)
+                    .tag("replica", replica.getName())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("todo.datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            replicas.add(replica);
+        }
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.datasource.replicas.probe-interval-ms:250}",
+            initialDelayString = "${todo.datasource.replicas.probe-interval-ms:250}")
+    public void probe() {
+        try {
+            primary.update(WRITE_HEARTBEAT_SQL, LocalDateTime.now());
+        } catch (DataAccessException e) {
+            // 기본 DB 에 쓰지 못하면 복제본의 하트비트가 오래되어 지연 초과로 제외됨
+            logger.warn("복제 하트비트 기록 실패: {}", e.getMessage());
+        }
+        for (Replica replica : replicas) {
+            probe(replica);
+        }
+    }
+
+    private void probe(Replica replica) {
+        boolean wasAvailable = replica.available;
+        try {
+            LocalDateTime beatAt = replica.jdbcTemplate.queryForObject(READ_HEARTBEAT_SQL, LocalDateTime.class);
+            long lagMillis = Math.max(0, Duration.between(beatAt, LocalDateTime.now()).toMillis());
+            replica.lagMillis = lagMillis;
+            replica.available = lagMillis <= maxLagMillis;
+            if (wasAvailable && !replica.available) {
+                logger.warn("복제본 {} 지연 {}ms (기준 {}ms) : 읽기에서 제외", replica.name, lagMillis, maxLagMillis);
+            }
+        } catch (DataAccessException e) {
+            replica.lagMillis = -1;
+            replica.available = false;
+            if (wasAvailable) {
+                logger.warn("복제본 {} 확인 실패 : 읽기에서 제외 ({})", replica.name, e.getMessage());
+            }
+        }
+        if (!wasAvailable && replica.available) {
+            logger.info("복제본 {} 읽기에 사용 (지연 {}ms)", replica.name, replica.lagMillis);
+        }
+    }
+
+    // 읽기에 사용할 수 있는 복제본 중 하나를 돌아가며 선택. 없으면 null
+    public Replica pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    // 복제본 커넥션 풀 종료 (빈 소멸 시 호출)
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    public static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile long lagMillis = -1;  // 마지막으로 측정한 지연 (-1 : 아직 모름 또는 확인 실패)
+        private volatile boolean available;
+
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public long getLagMillis() {
+            return lagMillis;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+    }
+}
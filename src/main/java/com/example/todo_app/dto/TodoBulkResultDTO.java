@@ -0,0 +1,55 @@
+package com.example.todo_app.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 일괄 변경 결과
+// count : 변경된 할 일 수, changedAt : 변경 시각 (수정된 할 일의 updatedAt)
+// versions : 변경된 카테고리별 목록의 새 ETag (카테고리 ID -> ETag). 클라이언트가 가진 목록 캐시를 갱신할 때 사용
+public class TodoBulkResultDTO {
+
+    private int count;
+    private LocalDateTime changedAt;
+    private Map<Integer, String> versions;
+
+    public TodoBulkResultDTO() {}
+
+    public TodoBulkResultDTO(int count, LocalDateTime changedAt, Map<Integer, String> versions) {
+        this.count = count;
+        this.changedAt = changedAt;
+        this.versions = versions;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public Map<Integer, String> getVersions() {
+        return versions;
+    }
+
+    public void setVersions(Map<Integer, String> versions) {
+        this.versions = versions;
+    }
+
+    @Override
+    public String toString() {
+        return "TodoBulkResultDTO{" +
+                "count=" + count +
+                ", changedAt=" + changedAt +
+                ", versions=" + versions +
+                '}';
+    }
+}
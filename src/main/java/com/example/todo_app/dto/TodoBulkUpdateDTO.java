@@ -0,0 +1,67 @@
+package com.example.todo_app.dto;
+
+import java.time.LocalDateTime;
+
+// 할 일 일괄 수정 요청 : selector 조건에 맞는 할 일의 일부 필드만 변경
+// completed, priority, dueDate 중 값이 있는 필드만 변경. clearDueDate 가 true 이면 마감 기한을 없앰
+public class TodoBulkUpdateDTO {
+
+    private TodoSelectorDTO selector;
+    private Boolean completed;
+    private Integer priority;
+    private LocalDateTime dueDate;
+    private boolean clearDueDate;
+
+    public TodoBulkUpdateDTO() {}
+
+    public TodoSelectorDTO getSelector() {
+        return selector;
+    }
+
+    public void setSelector(TodoSelectorDTO selector) {
+        this.selector = selector;
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public boolean getClearDueDate() {
+        return clearDueDate;
+    }
+
+    public void setClearDueDate(boolean clearDueDate) {
+        this.clearDueDate = clearDueDate;
+    }
+
+    @Override
+    public String toString() {
+        return "TodoBulkUpdateDTO{" +
+                "selector=" + selector +
+                ", completed=" + completed +
+                ", priority=" + priority +
+                ", dueDate=" + dueDate +
+                ", clearDueDate=" + clearDueDate +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.todo_app.dto;
+
+import java.util.List;
+
+// 변경 사항 조회 응답
+// todos : 커서 이후 생성/수정된 할 일, deletedIds : 커서 이후 삭제된 할 일 ID
+// nextCursor : 다음 조회에 사용할 커서 (항상 존재), hasMore 가 true 이면 바로 다음 페이지를 이어서 조회
+public class TodoChangesDTO {
+
+    private List<TodoDTO> todos;
+    private List<Integer> deletedIds;
+    private String nextCursor;
+    private boolean hasMore;
+
+    public TodoChangesDTO() {}
+
+    public TodoChangesDTO(List<TodoDTO> todos, List<Integer> deletedIds, String nextCursor, boolean hasMore) {
+        this.todos = todos;
+        this.deletedIds = deletedIds;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<TodoDTO> getTodos() {
+        return todos;
+    }
+
+    public void setTodos(List<TodoDTO> todos) {
+        this.todos = todos;
+    }
+
+    public List<Integer> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public void setDeletedIds(List<Integer> deletedIds) {
+        this.deletedIds = deletedIds;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.todo_app.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,6 +27,10 @@ public class TodoDTO {
 
     private int userId;
 
+    // 변경 사항 조회(/todos/changes)처럼 여러 카테고리의 할 일을 함께 응답할 때만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer categoryId;
+
     public TodoDTO() {}
 
     public TodoDTO(int id, String title, boolean completed, LocalDateTime dueDate, int priority, Integer position, List<String> tags, LocalDateTime createdAt, LocalDateTime updatedAt, int userId) {
@@ -120,4 +125,12 @@ public class TodoDTO {
     public void setUserId(int userId) {
         this.userId = userId;
     }
+
+    public Integer getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Integer categoryId) {
+        this.categoryId = categoryId;
+    }
 }
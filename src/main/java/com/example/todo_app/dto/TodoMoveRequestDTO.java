@@ -0,0 +1,22 @@
+package com.example.todo_app.dto;
+
+// 할 일 이동 요청 : 이동할 할 일을 afterId 할 일 바로 뒤에 배치
+// afterId 가 null 이면 목록의 맨 앞으로 이동
+public class TodoMoveRequestDTO {
+
+    private Integer afterId;
+
+    public TodoMoveRequestDTO() {}
+
+    public TodoMoveRequestDTO(Integer afterId) {
+        this.afterId = afterId;
+    }
+
+    public Integer getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(Integer afterId) {
+        this.afterId = afterId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.todo_app.dto;
+
+import java.util.List;
+
+// 커서 기반 페이지 응답
+// nextCursor 가 null 이면 마지막 페이지
+public class TodoPageDTO {
+
+    private List<TodoDTO> todos;
+    private String nextCursor;
+
+    public TodoPageDTO() {}
+
+    public TodoPageDTO(List<TodoDTO> todos, String nextCursor) {
+        this.todos = todos;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TodoDTO> getTodos() {
+        return todos;
+    }
+
+    public void setTodos(List<TodoDTO> todos) {
+        this.todos = todos;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.todo_app.dto;
+
+import java.util.List;
+
+// 일괄 변경 대상 조건 (현재 사용자의 할 일 중 모든 조건을 만족하는 할 일)
+// ids : 할 일 ID 목록, categoryId : 카테고리, completed : 완료 여부, tag : 태그. null 인 조건은 사용하지 않음
+public class TodoSelectorDTO {
+
+    private List<Integer> ids;
+    private Integer categoryId;
+    private Boolean completed;
+    private String tag;
+
+    public TodoSelectorDTO() {}
+
+    public TodoSelectorDTO(List<Integer> ids, Integer categoryId, Boolean completed, String tag) {
+        this.ids = ids;
+        this.categoryId = categoryId;
+        this.completed = completed;
+        this.tag = tag;
+    }
+
+    public List<Integer> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Integer> ids) {
+        this.ids = ids;
+    }
+
+    public Integer getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Integer categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public void setTag(String tag) {
+        this.tag = tag;
+    }
+
+    @Override
+    public String toString() {
+        return "TodoSelectorDTO{" +
+                "ids=" + ids +
+                ", categoryId=" + categoryId +
+                ", completed=" + completed +
+                ", tag='" + tag + '\'' +
+                '}';
+    }
+}
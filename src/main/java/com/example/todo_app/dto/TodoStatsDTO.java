@@ -0,0 +1,75 @@
+package com.example.todo_app.dto;
+
+import java.util.Map;
+
+// 카테고리별 할 일 통계
+// overdue : 완료되지 않았고 마감 기한이 지난 할 일 수, byPriority : 우선순위별 할 일 수
+public class TodoStatsDTO {
+
+    private int categoryId;
+    private long total;
+    private long completed;
+    private long overdue;
+    private Map<Integer, Long> byPriority;
+
+    public TodoStatsDTO() {}
+
+    public TodoStatsDTO(int categoryId, long total, long completed, long overdue, Map<Integer, Long> byPriority) {
+        this.categoryId = categoryId;
+        this.total = total;
+        this.completed = completed;
+        this.overdue = overdue;
+        this.byPriority = byPriority;
+    }
+
+    public int getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(int categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(long overdue) {
+        this.overdue = overdue;
+    }
+
+    public Map<Integer, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public void setByPriority(Map<Integer, Long> byPriority) {
+        this.byPriority = byPriority;
+    }
+
+    @Override
+    public String toString() {
+        return "TodoStatsDTO{" +
+                "categoryId=" + categoryId +
+                ", total=" + total +
+                ", completed=" + completed +
+                ", overdue=" + overdue +
+                ", byPriority=" + byPriority +
+                '}';
+    }
+}
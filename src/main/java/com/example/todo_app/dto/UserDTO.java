@@ -1,7 +1,9 @@
 package com.example.todo_app.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)  // 스트리밍 응답의 첫 줄처럼 todos 가 없으면 필드를 생략
 public class UserDTO {
 
     // 보안상의 이유로 유저 비밀번호와 같은 민감정보는 DTO 필드로 넣지않음
@@ -0,0 +1,66 @@
+package com.example.todo_app.event;
+
+import com.example.todo_app.dto.TodoDTO;
+
+// 할 일이 생성/수정/이동/삭제되었을 때 TodoService 가 발행하는 이벤트
+// before : 변경 전 상태 (생성 시 null), after : 변경 후 상태 (삭제 시 null)
+// 리스너는 보통 @TransactionalEventListener 로 커밋 후에 처리
+public class TodoChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        MOVED,
+        DELETED
+    }
+
+    private final Type type;
+    private final int todoId;
+    private final int userId;
+    private final int categoryId;
+    private final TodoDTO before;
+    private final TodoDTO after;
+
+    public TodoChangedEvent(Type type, int todoId, int userId, int categoryId, TodoDTO before, TodoDTO after) {
+        this.type = type;
+        this.todoId = todoId;
+        this.userId = userId;
+        this.categoryId = categoryId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getTodoId() {
+        return todoId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public int getCategoryId() {
+        return categoryId;
+    }
+
+    public TodoDTO getBefore() {
+        return before;
+    }
+
+    public TodoDTO getAfter() {
+        return after;
+    }
+
+    @Override
+    public String toString() {
+        return "TodoChangedEvent{" +
+                "type=" + type +
+                ", todoId=" + todoId +
+                ", userId=" + userId +
+                ", categoryId=" + categoryId +
+                '}';
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.todo_app.event;
+
+import java.util.List;
+import java.util.Set;
+
+// 여러 할 일을 한 번의 UPDATE / DELETE 문으로 바꿨을 때 TodoBulkService 가 발행하는 이벤트
+// 할 일마다의 변경 전/후 상태는 없으므로, 리스너는 해당 사용자의 메모리 상태를 버리거나 todoIds 를 다시 조회해서 반영
+// todoIds : 조건에 맞은 할 일 (실제로 바뀐 할 일보다 많을 수 있음), categoryIds : 그 할 일들이 속한 카테고리
+public class TodosBulkChangedEvent {
+
+    public enum Type {
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final int userId;
+    private final List<Integer> todoIds;
+    private final Set<Integer> categoryIds;
+    private final String description;  // 변경 내용 (변경 이력에 기록)
+
+    public TodosBulkChangedEvent(Type type, int userId, List<Integer> todoIds, Set<Integer> categoryIds, String description) {
+        this.type = type;
+        this.userId = userId;
+        this.todoIds = todoIds;
+        this.categoryIds = categoryIds;
+        this.description = description;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public List<Integer> getTodoIds() {
+        return todoIds;
+    }
+
+    public Set<Integer> getCategoryIds() {
+        return categoryIds;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return "TodosBulkChangedEvent{" +
+                "type=" + type +
+                ", userId=" + userId +
+                ", todoCount=" + todoIds.size() +
+                ", categoryIds=" + categoryIds +
+                '}';
+    }
+}
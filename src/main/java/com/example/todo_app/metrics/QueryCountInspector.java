@@ -0,0 +1,28 @@
+package com.example.todo_app.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 실행하는 SQL 문 개수를 현재 스레드(요청) 단위로 세는 StatementInspector
+// QueryCountMetricsFilter 가 요청 시작 시 초기화하고, 요청 종료 시 개수를 기록
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTER.get()[0]++;
+        return sql;  // SQL 은 수정하지 않음
+    }
+
+    public static void reset() {
+        COUNTER.get()[0] = 0;
+    }
+
+    public static int current() {
+        return COUNTER.get()[0];
+    }
+
+    public static void clear() {
+        COUNTER.remove();
+    }
+}
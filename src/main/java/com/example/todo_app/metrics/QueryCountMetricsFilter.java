@@ -0,0 +1,46 @@
+package com.example.todo_app.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+
+// 요청마다 실행된 SQL 문 개수를 엔드포인트(URI 패턴)별 분포로 기록
+// 특정 엔드포인트의 쿼리 수가 데이터 양에 따라 늘어나면(N+1) 분포의 상위 백분위에서 바로 드러남
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCountInspector.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("요청 하나에서 실행된 SQL 문 개수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(QueryCountInspector.current());
+            QueryCountInspector.clear();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.todo_app.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// PasswordEncoder 의 암호화(encode)/비교(matches) 시간을 측정하는 데코레이터
+// 로그인 한 번에 BCrypt 가 쓰는 시간을 password.encoder 타이머로 확인할 수 있음
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = Timer.builder("password.encoder")
+                .tag("operation", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.encoder")
+                .tag("operation", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return Boolean.TRUE.equals(matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -1,12 +1,20 @@
 package com.example.todo_app.model;
 
+import com.example.todo_app.config.SecondLevelCacheConfig;
+import com.example.todo_app.service.CategoryChangeListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 // 카테고리 관리
 @Entity
 @Table(name = "categories")
+@EntityListeners(CategoryChangeListener.class)  // 카테고리가 바뀌면 메모리의 카테고리 목록을 무효화
+@Cacheable
+// 2차 캐시 (읽기 전용 영역) : 카테고리는 미리 정해진 참조 데이터이므로 추가/삭제만 하고 수정하지 않음
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = SecondLevelCacheConfig.CATEGORY_REGION)
 public class Category {
 
     @Id
@@ -1,8 +1,11 @@
 package com.example.todo_app.model;
 
+import com.example.todo_app.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
@@ -11,11 +14,25 @@ import java.util.List;
 
 // 할 일 관리
 @Entity  // 이 클래스가 JPA 엔티티 임을 명시
-@Table(name = "todos")  // 테이블 이름을 todos 로 지정하고 매핑
+@Table(name = "todos", indexes = {  // 테이블 이름을 todos 로 지정하고 매핑
+        // 카테고리별 목록의 키셋 페이지 조회 (position, id 순서) 를 위한 인덱스
+        @Index(name = "idx_todos_user_category_position", columnList = "user_id, category_id, position, id"),
+        // 완료/미완료 목록의 키셋 페이지 조회를 위한 인덱스
+        @Index(name = "idx_todos_user_category_completed_position", columnList = "user_id, category_id, completed, position, id"),
+        // 변경 사항 조회 (updated_at, id 순서) 를 위한 인덱스
+        @Index(name = "idx_todos_user_updated_at", columnList = "user_id, updated_at, id"),
+        // 마감 알림 : 마감 기한 구간별 미완료 할 일 조회 (due_date, id 순서) 를 위한 인덱스
+        @Index(name = "idx_todos_completed_due_date", columnList = "completed, due_date, id")
+})
+@Cacheable
+// 2차 캐시 (읽기/쓰기 영역) : findById 등 ID 조회는 캐시에서 읽고, 수정/삭제 시 캐시도 함께 갱신
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TODO_REGION)
 public class Todo {
 
     @Id  // 해당 필드가 기본 key 임을 명시
-    @GeneratedValue(strategy = GenerationType.IDENTITY)  // id 필드가 자동 증가되도록 설정
+    // 시퀀스로 id 를 50개씩 미리 할당(pooled)받아 사용 -> INSERT 를 JDBC 배치로 묶을 수 있음 (IDENTITY 는 배치 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todos_seq", allocationSize = 50)
     private int id;
 
     @Column(nullable = false)
@@ -35,8 +52,11 @@ public class Todo {
     @Column(nullable = true)
     private Integer position; // 할 일의 리스트 내 순서를 나타내는 필드
 
-    @ElementCollection(fetch = FetchType.EAGER)  // 기본 데이터 타입이나 Embeddable 타입을 엔티티에 포함시키고, 데이터베이스에서 별도의 테이블로 관리하도록 JPA 에 알려줌
-    @CollectionTable(name = "todo_tags", joinColumns = @JoinColumn(name = "todo_id"))  // todo_id 라는 외래키 설정 -> todo_tags 테이블은 어떤 to_do 항목에 해당 태그들이 연결되어 있는지 알기 위해 필요
+    // 태그는 지연 로딩하고, 태그가 필요한 조회는 Repository 에서 @EntityGraph / fetch join 으로 함께 로드
+    @ElementCollection(fetch = FetchType.LAZY)  // 기본 데이터 타입이나 Embeddable 타입을 엔티티에 포함시키고, 데이터베이스에서 별도의 테이블로 관리하도록 JPA 에 알려줌
+    @CollectionTable(name = "todo_tags", joinColumns = @JoinColumn(name = "todo_id"),  // todo_id 라는 외래키 설정 -> todo_tags 테이블은 어떤 to_do 항목에 해당 태그들이 연결되어 있는지 알기 위해 필요
+            indexes = @Index(name = "idx_todo_tags_tag_todo", columnList = "tag, todo_id"))  // 태그로 할 일을 찾는 조회를 위한 인덱스
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TODO_TAGS_REGION)  // 태그 컬렉션도 2차 캐시
     @Column(name = "tag")  // todo_tags 테이블에 태그가 저장 될 때, tag 컬럼에 저장되도록 설정
     private List<String> tags = new ArrayList<>();  // 태그 리스트 - 빈 리스트로 초기화
 
@@ -54,7 +74,7 @@ public class Todo {
 
     // optional = false : 연관된 엔티티가 존재하지 않으면 해당 엔티티를 저장할 수 없도록 제한
     // 관계 자체의 필수 여부를 의미 (예를 들어, To-do 엔티티에 Category 가 반드시 존재해야 한다는 것을 JPA 에 알려줌)
-    @ManyToOne(fetch = FetchType.EAGER, optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     // nullable = false : 데이터베이스 레벨에서 필드가 null 값을 가질 수 없도록 제약
     // 데이터베이스에 실제로 생성된 테이블에서 category_id 컬럼이 null 값을 가지지 않도록 제약 설정
     @JoinColumn(name = "category_id", nullable = false)
@@ -179,8 +199,8 @@ public class Todo {
                 ", tags=" + tags +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
-                ", user=" + user +
-                ", category=" + category +
+                ", userId=" + (user != null ? user.getId() : null) +
+                ", categoryId=" + (category != null ? category.getId() : null) +
                 '}';
     }
 }
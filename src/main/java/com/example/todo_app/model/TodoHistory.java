@@ -5,30 +5,33 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 // 상태 변화 기록
+// 삭제된 할 일의 기록도 남아야 하므로 todos 에 대한 외래 키 없이 할 일 ID 만 저장
+// 기록은 TodoAuditWriter 가 JDBC 배치 INSERT 로 저장
 @Entity
-@Table(name = "todo_history")
+@Table(name = "todo_history", indexes = {
+        @Index(name = "idx_todo_history_todo_id", columnList = "todo_id, changed_at")
+})
 public class TodoHistory {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int id;
 
-    @ManyToOne
-    @JoinColumn(name = "todo_id", nullable = false)
-    private Todo todo;  // 기록할 할 일
+    @Column(name = "todo_id", nullable = false)
+    private int todoId;  // 기록할 할 일의 ID
 
     @Column(nullable = false)
     private String changeDescription;  // 변경 사항 설명
 
-    @Column(nullable = false)
+    @Column(name = "changed_at", nullable = false)
     @CreationTimestamp
     private LocalDateTime timestamp;  // 변경 시간
 
     public TodoHistory() {}
 
-    public TodoHistory(int id, Todo todo, String changeDescription, LocalDateTime timestamp) {
+    public TodoHistory(int id, int todoId, String changeDescription, LocalDateTime timestamp) {
         this.id = id;
-        this.todo = todo;
+        this.todoId = todoId;
         this.changeDescription = changeDescription;
         this.timestamp = timestamp;
     }
@@ -41,12 +44,12 @@ public class TodoHistory {
         this.id = id;
     }
 
-    public Todo getTodo() {
-        return todo;
+    public int getTodoId() {
+        return todoId;
     }
 
-    public void setTodo(Todo todo) {
-        this.todo = todo;
+    public void setTodoId(int todoId) {
+        this.todoId = todoId;
     }
 
     public String getChangeDescription() {
@@ -69,7 +72,7 @@ public class TodoHistory {
     public String toString() {
         return "TodoHistory{" +
                 "id=" + id +
-                ", todo=" + todo +
+                ", todoId=" + todoId +
                 ", changeDescription='" + changeDescription + '\'' +
                 ", timestamp=" + timestamp +
                 '}';
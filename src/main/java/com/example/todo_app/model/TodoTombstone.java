@@ -0,0 +1,94 @@
+package com.example.todo_app.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import java.time.LocalDateTime;
+
+// 삭제된 할 일 기록 (tombstone)
+// 삭제된 행은 todos 에 남지 않으므로, 변경 사항 조회(/todos/changes)에서 삭제를 알려주기 위해 별도로 저장
+// 보존 기간이 지나면 삭제됨 (todo.changes.tombstone-retention-days)
+@Entity
+@Table(name = "todo_tombstones", indexes = {
+        // 사용자별 삭제 기록을 (deleted_at, id) 순서로 조회
+        @Index(name = "idx_todo_tombstones_user_deleted_at", columnList = "user_id, deleted_at, id"),
+        // 보존 기간이 지난 기록 삭제
+        @Index(name = "idx_todo_tombstones_deleted_at", columnList = "deleted_at")
+})
+public class TodoTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)  // 일괄 삭제의 INSERT ... SELECT 도 같은 IDENTITY 컬럼을 사용
+    private int id;
+
+    @Column(name = "todo_id", nullable = false)
+    private int todoId;  // 삭제된 할 일의 ID
+
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    @Column(name = "category_id", nullable = false)
+    private int categoryId;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    @CreationTimestamp
+    private LocalDateTime deletedAt;  // 삭제 시간
+
+    public TodoTombstone() {}
+
+    public TodoTombstone(int todoId, int userId, int categoryId) {
+        this.todoId = todoId;
+        this.userId = userId;
+        this.categoryId = categoryId;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public int getTodoId() {
+        return todoId;
+    }
+
+    public void setTodoId(int todoId) {
+        this.todoId = todoId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    public int getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(int categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TodoTombstone{" +
+                "id=" + id +
+                ", todoId=" + todoId +
+                ", userId=" + userId +
+                ", categoryId=" + categoryId +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+}
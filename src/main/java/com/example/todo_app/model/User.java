@@ -1,5 +1,6 @@
 package com.example.todo_app.model;
 
+import com.example.todo_app.security.UserCacheEvictionListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.util.ArrayList;
@@ -8,6 +9,7 @@ import java.util.List;
 // 유저 관리
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheEvictionListener.class)  // 사용자 정보가 바뀌면 인증 정보 캐시에서 제거
 public class User {
 
     @Id
@@ -21,7 +23,8 @@ public class User {
     @JsonIgnore
     private String password;  // 비밀번호
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    // 할 일 목록은 필요한 조회에서만 fetch join 으로 함께 로드 (기본은 지연 로딩)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Todo> todos = new ArrayList<>();  // 사용자의 할 일 목록
 
     public User() {}
@@ -0,0 +1,102 @@
+package com.example.todo_app.reminder;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+
+// 해시 타이밍 휠 : 실행 시각을 tick 단위로 나눠 원형 버킷 배열에 넣어 두는 타이머 구조
+// 등록과 취소는 O(1) (취소는 표시만 하고 해당 버킷을 처리할 때 제거), tick 마다 버킷 하나만 확인
+// 휠 한 바퀴(wheelSize x tick)보다 먼 작업도 넣을 수 있지만, 같은 버킷을 여러 바퀴 동안 다시 확인하게 되므로
+// ReminderScheduler 는 휠 한 바퀴 이내의 작업만 넣도록 시간 구간(window) 단위로 나눠서 로드함
+final class HashedTimingWheel<T> {
+
+    // 등록된 작업 하나. cancel() 로 취소
+    static final class Timeout<T> {
+        private final T task;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(T task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        T task() {
+            return task;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final ArrayDeque<Timeout<T>>[] buckets;
+    private final int mask;
+    private long currentTick;  // 아직 처리하지 않은 첫 tick
+    private int pending;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(long tickMillis, int minWheelSize, long startMillis) {
+        if (tickMillis <= 0 || minWheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis 와 wheelSize 는 0보다 커야 합니다.");
+        }
+        int wheelSize = Integer.highestOneBit(Math.max(minWheelSize - 1, 1)) << 1;  // 2의 거듭제곱으로 올림 (index 계산을 & 로)
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.buckets = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.mask = wheelSize - 1;
+    }
+
+    // deadlineMillis 에 실행할 작업 등록. 이미 지난 시각이면 다음 tick 에서 바로 실행
+    synchronized Timeout<T> schedule(T task, long deadlineMillis) {
+        long tick = Math.max(ceilDiv(deadlineMillis - startMillis, tickMillis), currentTick);
+        Timeout<T> timeout = new Timeout<>(task, tick);
+        buckets[(int) (tick & mask)].addLast(timeout);
+        pending++;
+        return timeout;
+    }
+
+    synchronized void cancel(Timeout<T> timeout) {
+        if (!timeout.cancelled) {
+            timeout.cancelled = true;
+            pending--;
+        }
+    }
+
+    // nowMillis 까지의 tick 을 처리하고 실행 시각이 된 작업을 반환 (tick 스레드가 늦어졌으면 밀린 tick 을 모두 처리)
+    synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        for (; currentTick <= targetTick; currentTick++) {
+            Iterator<Timeout<T>> iterator = buckets[(int) (currentTick & mask)].iterator();
+            while (iterator.hasNext()) {
+                Timeout<T> timeout = iterator.next();
+                if (timeout.cancelled) {
+                    iterator.remove();
+                } else if (timeout.deadlineTick <= currentTick) {
+                    iterator.remove();
+                    timeout.cancelled = true;  // 실행된 작업은 다시 취소되지 않도록
+                    pending--;
+                    expired.add(timeout.task);
+                }
+                // deadlineTick 이 더 뒤이면 휠을 한 바퀴 더 돈 뒤에 실행
+            }
+        }
+        return expired;
+    }
+
+    // 취소되지 않은 대기 작업 수
+    synchronized int size() {
+        return pending;
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+}
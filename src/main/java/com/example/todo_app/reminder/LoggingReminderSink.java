@@ -0,0 +1,18 @@
+package com.example.todo_app.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// 기본 알림 sink : 알림을 로그로 남김
+@Component
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void onReminder(TodoReminder reminder) {
+        logger.info("마감 기한 알림 [{}]: 사용자 {}, 할 일 {} '{}', 마감 {}",
+                reminder.getType(), reminder.getUserId(), reminder.getTodoId(), reminder.getTitle(), reminder.getDueDate());
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.todo_app.reminder;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.event.TodoChangedEvent;
+import com.example.todo_app.event.TodosBulkChangedEvent;
+import com.example.todo_app.repository.TodoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 마감 기한 알림 스케줄러
+// 미완료 할 일의 마감 알림(UPCOMING : lead-minutes 전, DUE : 마감 시각)을 타이밍 휠에 등록하고, 시각이 되면 ReminderSink 들에 전달
+// 전체 테이블을 주기적으로 훑지 않고, 마감 기한 window-minutes 구간씩 인덱스(completed, due_date, id)로 읽어 휠에 올림
+// loadedUntil 이전 마감 기한은 모두 휠에 있고, 이후 것은 시간이 지나 해당 구간을 로드할 때 DB 에서 읽음
+// 이미 로드한 구간의 할 일이 생성/수정/완료/삭제되면 커밋 후 이벤트로 휠을 갱신
+@Component
+public class ReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private final TodoRepository todoRepository;
+    private final List<ReminderSink> sinks;
+    private final boolean enabled;
+    private final long tickMillis;
+    private final Duration window;
+    private final Duration lead;
+    private final int loadBatchSize;
+    private final HashedTimingWheel<TodoReminder> wheel;
+    private final ScheduledExecutorService executor;
+
+    private final Counter upcomingCounter;
+    private final Counter dueCounter;
+    private final Counter loadedCounter;
+
+    // 아래 필드는 lock 으로 보호 (메모리 작업만 하므로 잠금 구간이 짧음)
+    private final Object lock = new Object();
+    private final Map<Integer, List<HashedTimingWheel.Timeout<TodoReminder>>> scheduled = new HashMap<>();
+    private LocalDateTime loadedUntil;  // 이 시각 이전 마감 기한은 모두 휠에 등록됨 (null 이면 아직 시작 전)
+    private Set<Integer> touchedWhileLoading;  // 구간을 로드하는 동안 이벤트로 갱신된 할 일 (로드 결과보다 이벤트가 최신)
+
+    public ReminderScheduler(TodoRepository todoRepository,
+                             List<ReminderSink> sinks,
+                             MeterRegistry meterRegistry,
+                             @Value("${todo.reminder.enabled:true}") boolean enabled,
+                             @Value("${todo.reminder.tick-ms:1000}") long tickMillis,
+                             @Value("${todo.reminder.window-minutes:60}") long windowMinutes,
+                             @Value("${todo.reminder.lead-minutes:15}") long leadMinutes,
+                             @Value("${todo.reminder.load-batch-size:1000}") int loadBatchSize) {
+        if (windowMinutes <= 0 || leadMinutes < 0 || loadBatchSize <= 0) {
+            throw new IllegalArgumentException("todo.reminder 설정 값이 올바르지 않습니다.");
+        }
+        this.todoRepository = todoRepository;
+        this.sinks = List.copyOf(sinks);
+        this.enabled = enabled;
+        this.tickMillis = tickMillis;
+        this.window = Duration.ofMinutes(windowMinutes);
+        this.lead = Duration.ofMinutes(leadMinutes);
+        this.loadBatchSize = loadBatchSize;
+
+        // 휠에는 최대 (lead + 2 x window) 이내의 알림만 들어가므로, 휠 한 바퀴를 그보다 길게 잡으면 버킷마다 해당 tick 의 알림만 있음
+        long horizonTicks = (lead.plus(window.multipliedBy(2)).toMillis() + tickMillis - 1) / tickMillis;
+        this.wheel = new HashedTimingWheel<>(tickMillis, (int) Math.min(horizonTicks + 1, 1 << 20), System.currentTimeMillis());
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "todo-reminder-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.upcomingCounter = Counter.builder("todo.reminder.fired").tag("type", "upcoming").register(meterRegistry);
+        this.dueCounter = Counter.builder("todo.reminder.fired").tag("type", "due").register(meterRegistry);
+        this.loadedCounter = Counter.builder("todo.reminder.loaded").register(meterRegistry);
+        Gauge.builder("todo.reminder.pending", wheel, HashedTimingWheel::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            loadedUntil = LocalDateTime.now();  // 시작 시각 이전에 마감된 할 일은 알림을 보내지 않음
+        }
+        executor.scheduleAtFixedRate(this::tickSafely, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        // 구간의 절반이 지날 때마다 다음 구간을 미리 로드 (1분마다 확인)
+        executor.scheduleWithFixedDelay(this::loadAheadSafely, 0, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 커밋된 변경만 반영. 기존 알림을 취소하고, 미완료이면서 이미 로드한 구간의 마감 기한이면 다시 등록
+    // 아직 로드하지 않은 구간이면 해당 구간을 로드할 때 DB 에서 읽음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        TodoDTO after = event.getAfter();
+        synchronized (lock) {
+            if (loadedUntil == null) {
+                return;
+            }
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(event.getTodoId());
+            }
+            cancel(event.getTodoId());
+            if (after != null && !after.getCompleted() && after.getDueDate() != null
+                    && after.getDueDate().isBefore(loadedUntil)) {
+                schedule(event.getTodoId(), event.getUserId(), event.getCategoryId(), after.getTitle(), after.getDueDate());
+            }
+        }
+    }
+
+    // 일괄 변경은 할 일마다의 변경 후 상태가 없으므로, 대상 할 일의 마감 기한을 다시 조회해서 알림을 교체 (삭제는 취소만)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodosBulkChanged(TodosBulkChangedEvent event) {
+        synchronized (lock) {
+            if (loadedUntil == null) {
+                return;
+            }
+        }
+        List<Object[]> rows = (event.getType() == TodosBulkChangedEvent.Type.DELETED)
+                ? List.of()
+                : todoRepository.findReminderRowsByIdIn(event.getTodoIds());
+        synchronized (lock) {
+            for (int todoId : event.getTodoIds()) {
+                if (touchedWhileLoading != null) {
+                    touchedWhileLoading.add(todoId);
+                }
+                cancel(todoId);
+            }
+            for (Object[] row : rows) {
+                LocalDateTime dueDate = (LocalDateTime) row[4];
+                if (dueDate.isBefore(loadedUntil)) {
+                    schedule((Integer) row[0], (Integer) row[1], (Integer) row[2], (String) row[3], dueDate);
+                }
+            }
+        }
+    }
+
+    // 현재 휠에 등록된 (아직 실행되지 않은) 알림 수
+    public int getPendingCount() {
+        return wheel.size();
+    }
+
+    // 시각이 된 알림을 sink 들에 전달
+    void tick() {
+        List<TodoReminder> expired = wheel.advance(System.currentTimeMillis());
+        if (expired.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            for (TodoReminder reminder : expired) {
+                if (reminder.getType() == TodoReminder.Type.DUE) {
+                    forgetIfDone(reminder);
+                }
+            }
+        }
+        for (TodoReminder reminder : expired) {
+            (reminder.getType() == TodoReminder.Type.DUE ? dueCounter : upcomingCounter).increment();
+            for (ReminderSink sink : sinks) {
+                try {
+                    sink.onReminder(reminder);
+                } catch (RuntimeException e) {
+                    logger.error("마감 알림 전달 중 오류가 발생했습니다: {}", reminder, e);  // 한 sink 의 오류가 다른 sink 에 영향을 주지 않도록
+                }
+            }
+        }
+    }
+
+    // 현재 시각 + lead + window/2 까지의 마감 기한이 로드되어 있도록 다음 구간들을 로드
+    void loadAhead() {
+        LocalDateTime horizon = LocalDateTime.now().plus(lead).plus(window.dividedBy(2));
+        while (true) {
+            LocalDateTime from;
+            synchronized (lock) {
+                if (loadedUntil == null || !loadedUntil.isBefore(horizon)) {
+                    return;
+                }
+                from = loadedUntil;
+            }
+            loadWindow(from, from.plus(window));
+        }
+    }
+
+    // 마감 기한이 [from, to) 인 미완료 할 일을 배치 단위로 읽어 휠에 등록
+    // loadedUntil 을 먼저 to 로 올려서, 로드 중에 커밋된 변경도 이벤트로 휠에 반영되게 함
+    // 로드 중에 이벤트로 갱신된 할 일은 조회 결과가 더 오래된 상태일 수 있으므로 건너뜀
+    private void loadWindow(LocalDateTime from, LocalDateTime to) {
+        synchronized (lock) {
+            loadedUntil = to;
+            touchedWhileLoading = new HashSet<>();
+        }
+        int loaded = 0;
+        try {
+            LocalDateTime afterDue = from;
+            int afterId = Integer.MIN_VALUE;
+            List<Object[]> rows;
+            do {
+                rows = todoRepository.findReminderRows(from, to, afterDue, afterId, Limit.of(loadBatchSize));
+                synchronized (lock) {
+                    for (Object[] row : rows) {
+                        int todoId = (Integer) row[0];
+                        if (!touchedWhileLoading.contains(todoId)) {
+                            schedule(todoId, (Integer) row[1], (Integer) row[2], (String) row[3], (LocalDateTime) row[4]);
+                            loaded++;
+                        }
+                    }
+                }
+                if (!rows.isEmpty()) {
+                    Object[] last = rows.get(rows.size() - 1);
+                    afterDue = (LocalDateTime) last[4];
+                    afterId = (Integer) last[0];
+                }
+            } while (rows.size() == loadBatchSize);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                loadedUntil = from;  // 다음 주기에 이 구간을 다시 로드 (이미 등록된 알림은 할 일 id 기준으로 교체됨)
+            }
+            throw e;
+        } finally {
+            synchronized (lock) {
+                touchedWhileLoading = null;
+            }
+        }
+        loadedCounter.increment(loaded);
+        logger.debug("마감 알림 구간 로드: {} ~ {}, {}건", from, to, loaded);
+    }
+
+    // lock 안에서 호출. 할 일의 알림을 (이미 있으면 교체해서) 등록. 이미 지난 시각의 알림은 등록하지 않음
+    private void schedule(int todoId, int userId, int categoryId, String title, LocalDateTime dueDate) {
+        cancel(todoId);
+        long nowMillis = System.currentTimeMillis();
+        long dueMillis = toMillis(dueDate);
+        List<HashedTimingWheel.Timeout<TodoReminder>> timeouts = new ArrayList<>(2);
+        long upcomingMillis = dueMillis - lead.toMillis();
+        if (!lead.isZero() && upcomingMillis > nowMillis) {
+            timeouts.add(wheel.schedule(new TodoReminder(TodoReminder.Type.UPCOMING, todoId, userId, categoryId, title, dueDate), upcomingMillis));
+        }
+        if (dueMillis > nowMillis) {
+            timeouts.add(wheel.schedule(new TodoReminder(TodoReminder.Type.DUE, todoId, userId, categoryId, title, dueDate), dueMillis));
+        }
+        if (!timeouts.isEmpty()) {
+            scheduled.put(todoId, timeouts);
+        }
+    }
+
+    // lock 안에서 호출
+    private void cancel(int todoId) {
+        List<HashedTimingWheel.Timeout<TodoReminder>> timeouts = scheduled.remove(todoId);
+        if (timeouts != null) {
+            timeouts.forEach(wheel::cancel);
+        }
+    }
+
+    // lock 안에서 호출. 마지막 알림(DUE)이 실행된 할 일은 더 추적하지 않음 (그 사이 다시 등록된 경우는 제외)
+    private void forgetIfDone(TodoReminder reminder) {
+        List<HashedTimingWheel.Timeout<TodoReminder>> timeouts = scheduled.get(reminder.getTodoId());
+        if (timeouts != null && timeouts.get(timeouts.size() - 1).task() == reminder) {
+            scheduled.remove(reminder.getTodoId());
+        }
+    }
+
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            logger.error("마감 알림 처리 중 오류가 발생했습니다.", e);  // 예외가 나도 다음 tick 은 계속 실행
+        }
+    }
+
+    private void loadAheadSafely() {
+        try {
+            loadAhead();
+        } catch (RuntimeException e) {
+            logger.error("마감 알림 구간 로드 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.todo_app.reminder;
+
+// 마감 기한 알림을 받는 곳 (알림 전송, 웹소켓 push 등)
+// ReminderSink 를 구현한 빈을 등록하면 ReminderScheduler 가 모든 sink 에 알림을 전달
+// 알림은 타이머 스레드에서 호출되므로, 오래 걸리는 작업은 sink 안에서 별도 스레드로 넘겨야 함
+public interface ReminderSink {
+
+    void onReminder(TodoReminder reminder);
+}
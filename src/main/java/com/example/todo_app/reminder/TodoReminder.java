@@ -0,0 +1,63 @@
+package com.example.todo_app.reminder;
+
+import java.time.LocalDateTime;
+
+// 마감 기한 알림 한 건
+// UPCOMING : 마감 기한 lead-minutes 전, DUE : 마감 기한 도달
+public class TodoReminder {
+
+    public enum Type {
+        UPCOMING,
+        DUE
+    }
+
+    private final Type type;
+    private final int todoId;
+    private final int userId;
+    private final int categoryId;
+    private final String title;
+    private final LocalDateTime dueDate;
+
+    public TodoReminder(Type type, int todoId, int userId, int categoryId, String title, LocalDateTime dueDate) {
+        this.type = type;
+        this.todoId = todoId;
+        this.userId = userId;
+        this.categoryId = categoryId;
+        this.title = title;
+        this.dueDate = dueDate;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getTodoId() {
+        return todoId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public int getCategoryId() {
+        return categoryId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    @Override
+    public String toString() {
+        return "TodoReminder{" +
+                "type=" + type +
+                ", todoId=" + todoId +
+                ", userId=" + userId +
+                ", dueDate=" + dueDate +
+                '}';
+    }
+}
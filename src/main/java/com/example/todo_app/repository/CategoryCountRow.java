@@ -0,0 +1,13 @@
+package com.example.todo_app.repository;
+
+// 카테고리/완료 여부/우선순위별 할 일 수 (GROUP BY 프로젝션, 통계 검증에 사용)
+public interface CategoryCountRow {
+
+    int getCategoryId();
+
+    boolean getCompleted();
+
+    int getPriority();
+
+    long getCount();
+}
@@ -0,0 +1,9 @@
+package com.example.todo_app.repository;
+
+// 카테고리별 기한이 지난 미완료 할 일 수 (GROUP BY 프로젝션, 통계 검증에 사용)
+public interface CategoryOverdueRow {
+
+    int getCategoryId();
+
+    long getCount();
+}
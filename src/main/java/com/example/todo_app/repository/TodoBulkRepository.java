@@ -0,0 +1,125 @@
+package com.example.todo_app.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 조건에 맞는 여러 할 일을 한 번의 UPDATE / DELETE 문으로 바꾸는 일괄 변경 쿼리
+// 조건과 바꿀 필드가 요청마다 달라서 JPQL 을 직접 조립 (엔티티를 조회하지 않음)
+// JPQL 일괄 UPDATE/DELETE 는 Hibernate 가 Todo 2차 캐시 영역과 todos 쿼리 캐시를 자동으로 무효화함
+// 네이티브 문은 건드리는 테이블(query space)을 지정해서, 해당 캐시 영역만 무효화되게 함 (지정하지 않으면 2차 캐시 전체가 비워짐)
+@Repository
+public class TodoBulkRepository {
+
+    // 대상 조건. null 인 조건은 사용하지 않음
+    public record Selector(Collection<Integer> ids, Integer categoryId, Boolean completed, String tag) {}
+
+    // 바꿀 필드. null 인 필드는 그대로 둠 (clearDueDate 가 true 이면 마감 기한을 null 로)
+    public record Changes(Boolean completed, Integer priority, LocalDateTime dueDate, boolean clearDueDate) {}
+
+    private final EntityManager entityManager;
+
+    public TodoBulkRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // 사용자의 할 일 중 조건에 맞는 할 일의 [todoId, categoryId] 목록 (ID 순, 최대 limit 개)
+    public List<Object[]> findTargets(int userId, Selector selector, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = where(userId, selector, parameters);
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                "SELECT t.id, t.category.id FROM Todo t WHERE " + where + " ORDER BY t.id", Object[].class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    // targetIds 중 여전히 조건에 맞는 할 일을 한 번의 UPDATE 로 변경하고, 변경된 행 수를 반환
+    // (targetIds 를 조회한 뒤 다른 요청이 바꾼 할 일은 조건을 다시 확인해서 제외)
+    // 일괄 UPDATE 에는 @UpdateTimestamp 가 적용되지 않으므로 updatedAt 을 직접 설정 (변경 사항 조회에 포함되도록)
+    public int update(int userId, Selector selector, Collection<Integer> targetIds, Changes changes, LocalDateTime now) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("UPDATE Todo t SET t.updatedAt = :now");
+        parameters.put("now", now);
+        if (changes.completed() != null) {
+            jpql.append(", t.completed = :newCompleted");
+            parameters.put("newCompleted", changes.completed());
+        }
+        if (changes.priority() != null) {
+            jpql.append(", t.priority = :newPriority");
+            parameters.put("newPriority", changes.priority());
+        }
+        if (changes.clearDueDate()) {
+            jpql.append(", t.dueDate = NULL");
+        } else if (changes.dueDate() != null) {
+            jpql.append(", t.dueDate = :newDueDate");
+            parameters.put("newDueDate", changes.dueDate());
+        }
+        jpql.append(" WHERE ").append(where(userId, selector, parameters)).append(" AND t.id IN :targetIds");
+        parameters.put("targetIds", targetIds);
+
+        Query query = entityManager.createQuery(jpql.toString());
+        parameters.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    // 삭제할 할 일의 삭제 기록(tombstone)을 INSERT ... SELECT 한 번으로 저장 (id 는 IDENTITY 컬럼이 생성)
+    public int insertTombstones(int userId, Collection<Integer> todoIds, LocalDateTime now) {
+        return nativeUpdate("todo_tombstones",
+                "INSERT INTO todo_tombstones (todo_id, user_id, category_id, deleted_at) " +
+                        "SELECT t.id, t.user_id, t.category_id, :now FROM todos t " +
+                        "WHERE t.user_id = :userId AND t.id IN (:todoIds)",
+                Map.of("now", now, "userId", userId, "todoIds", todoIds));
+    }
+
+    // 할 일의 태그 행을 DELETE 한 번으로 삭제 (todos 보다 먼저 삭제해야 외래 키 위반이 없음)
+    public int deleteTags(int userId, Collection<Integer> todoIds) {
+        return nativeUpdate("todo_tags",
+                "DELETE FROM todo_tags WHERE todo_id IN (SELECT t.id FROM todos t WHERE t.user_id = :userId AND t.id IN (:todoIds))",
+                Map.of("userId", userId, "todoIds", todoIds));
+    }
+
+    // 사용자의 할 일을 DELETE 한 번으로 삭제하고, 삭제된 행 수를 반환
+    public int deleteTodos(int userId, Collection<Integer> todoIds) {
+        return entityManager.createQuery("DELETE FROM Todo t WHERE t.user.id = :userId AND t.id IN :todoIds")
+                .setParameter("userId", userId)
+                .setParameter("todoIds", todoIds)
+                .executeUpdate();
+    }
+
+    private int nativeUpdate(String querySpace, String sql, Map<String, Object> parameters) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        query.addSynchronizedQuerySpace(querySpace);
+        parameters.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    // 항상 사용자 조건을 포함한 WHERE 절 (별칭 t)
+    private static String where(int userId, Selector selector, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder("t.user.id = :userId");
+        parameters.put("userId", userId);
+        if (selector.ids() != null) {
+            where.append(" AND t.id IN :ids");
+            parameters.put("ids", selector.ids());
+        }
+        if (selector.categoryId() != null) {
+            where.append(" AND t.category.id = :categoryId");
+            parameters.put("categoryId", selector.categoryId());
+        }
+        if (selector.completed() != null) {
+            where.append(" AND t.completed = :completed");
+            parameters.put("completed", selector.completed());
+        }
+        if (selector.tag() != null) {
+            where.append(" AND :tag MEMBER OF t.tags");
+            parameters.put("tag", selector.tag());
+        }
+        return where.toString();
+    }
+}
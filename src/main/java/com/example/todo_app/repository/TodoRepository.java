@@ -1,13 +1,29 @@
 package com.example.todo_app.repository;
 
+import com.example.todo_app.config.SecondLevelCacheConfig;
 import com.example.todo_app.model.Todo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TodoRepository extends JpaRepository<Todo, Integer> {
+
+    // TodoRow 프로젝션 SELECT 절 (생성자 표현식)
+    String TODO_ROW_SELECT = "SELECT new com.example.todo_app.repository.TodoRow(t.id, t.title, t.completed, t.dueDate, " +
+            "t.priority, t.position, t.createdAt, t.updatedAt, t.user.id) FROM Todo t ";
+
     // Spring Data JPA 에서 기본적인 CRUD 를 제공하지만 ~~
     // 예시
     // 전체조회 -> 모든 엔티티를 조회
@@ -18,15 +34,133 @@ public interface TodoRepository extends JpaRepository<Todo, Integer> {
     // 커스텀 메소드로 정의해야 한다
 
 
-    // 카테고리별 Id를 기준으로 모든 할 일 목록 조회 및 정렬
-    List<Todo> findByCategoryIdOrderByPositionAsc(int categoryId);
+    // 목록 조회(카테고리별, 완료 여부별, /users/me)는 엔티티 대신 TodoRow 프로젝션으로 필요한 컬럼만 읽고,
+    // 태그는 findTagPairsByTodoIdIn / findTagPairsByUserId 로 한 번에 조회해서 합침
+
+    // 카테고리별 할 일 목록을 (position, id) 기준 키셋(커서) 방식으로 페이지 조회
+    // OFFSET 대신 마지막으로 본 (position, id) 다음부터 읽으므로, 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회됨
+    // (user_id, category_id, position, id) 인덱스를 그대로 따라 읽음
+    // 결과는 쿼리 캐시에 저장 (todos 테이블이 바뀌면 Hibernate 가 자동으로 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.CATEGORY_PAGE_QUERY_REGION)
+    })
+    @Query(TODO_ROW_SELECT + "WHERE t.user.id = :userId AND t.category.id = :categoryId " +
+            "AND (t.position > :position OR (t.position = :position AND t.id > :id)) " +
+            "ORDER BY t.position ASC, t.id ASC")
+    List<TodoRow> findCategoryPage(@Param("userId") int userId, @Param("categoryId") int categoryId,
+                                   @Param("position") int position, @Param("id") int id, Limit limit);
+
+    // 카테고리 내 완료 여부별 할 일 목록 키셋 페이지 조회
+    // (user_id, category_id, completed, position, id) 인덱스를 그대로 따라 읽음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.CATEGORY_PAGE_QUERY_REGION)
+    })
+    @Query(TODO_ROW_SELECT + "WHERE t.user.id = :userId AND t.category.id = :categoryId AND t.completed = :completed " +
+            "AND (t.position > :position OR (t.position = :position AND t.id > :id)) " +
+            "ORDER BY t.position ASC, t.id ASC")
+    List<TodoRow> findCategoryPageByCompleted(@Param("userId") int userId, @Param("categoryId") int categoryId,
+                                              @Param("completed") boolean completed,
+                                              @Param("position") int position, @Param("id") int id, Limit limit);
+
+    // 마지막으로 받은 (updatedAt, id) 이후에 생성/수정된 할 일을 수정 순서대로 조회 (변경 사항 동기화)
+    // until 이후에 수정된 할 일은 아직 커밋되지 않은 트랜잭션과 순서가 뒤바뀔 수 있으므로 다음 조회로 미룸
+    // (user_id, updated_at, id) 인덱스를 그대로 따라 읽음
+    @Query("SELECT t FROM Todo t WHERE t.user.id = :userId " +
+            "AND (t.updatedAt > :updatedAt OR (t.updatedAt = :updatedAt AND t.id > :id)) AND t.updatedAt <= :until " +
+            "ORDER BY t.updatedAt ASC, t.id ASC")
+    List<Todo> findChangedSince(@Param("userId") int userId, @Param("updatedAt") LocalDateTime updatedAt, @Param("id") int id,
+                                @Param("until") LocalDateTime until, Limit limit);
+
+    // 카테고리 내 사용자의 마지막 position 조회 (새 할 일을 목록 끝에 추가할 때 사용)
+    @Query("SELECT COALESCE(MAX(t.position), 0) FROM Todo t WHERE t.user.id = :userId AND t.category.id = :categoryId")
+    int findMaxPosition(@Param("userId") int userId, @Param("categoryId") int categoryId);
+
+    // 특정 위치 (position, id) 바로 다음에 오는 할 일의 position 조회 (excludeId 는 제외)
+    // 할 일을 이동할 때 앞뒤 항목 사이의 빈 position 을 찾는 데 사용
+    @Query("SELECT t.position FROM Todo t WHERE t.user.id = :userId AND t.category.id = :categoryId AND t.id <> :excludeId " +
+            "AND (t.position > :position OR (t.position = :position AND t.id > :id)) " +
+            "ORDER BY t.position ASC, t.id ASC")
+    List<Integer> findNextPositions(@Param("userId") int userId, @Param("categoryId") int categoryId,
+                                    @Param("excludeId") int excludeId,
+                                    @Param("position") int position, @Param("id") int id, Limit limit);
+
+    // 카테고리 내 사용자의 할 일 전체를 순서대로 조회 (position 을 다시 번호 매길 때만 사용)
+    List<Todo> findByUserIdAndCategoryIdOrderByPositionAscIdAsc(int userId, int categoryId);
+
+    // 사용자의 특정 할 일 조회
+    Optional<Todo> findByIdAndUserId(int id, int userId);
+
+    // 사용자의 특정 할 일을 태그와 함께 조회
+    @EntityGraph(attributePaths = "tags")
+    Optional<Todo> findWithTagsByIdAndUserId(int id, int userId);
+
+    // 여러 ID 의 할 일을 태그와 함께 조회 (순서 변경 시 사용)
+    @EntityGraph(attributePaths = "tags")
+    List<Todo> findWithTagsByIdIn(Collection<Integer> ids);
+
+    // 사용자의 모든 할 일 (/users/me 에서 사용)
+    @Query(TODO_ROW_SELECT + "WHERE t.user.id = :userId ORDER BY t.id")
+    List<TodoRow> findRowsByUserId(@Param("userId") int userId);
+
+    // 사용자의 할 일을 커서로 조금씩(fetch size 200) 읽어오는 스트림 (결과 전체를 메모리에 올리지 않음)
+    // 반드시 트랜잭션 안에서 사용하고, 다 쓴 뒤에는 close 해야 함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Todo t WHERE t.user.id = :userId ORDER BY t.id")
+    Stream<Todo> streamByUserId(@Param("userId") int userId);
+
+    // 제목 전문 검색 : H2 전문 검색 색인(FT_SEARCH_DATA)으로 단어가 모두 포함된 할 일을 찾고, 사용자의 할 일만 남김
+    // H2 내장 전문 검색의 SCORE 는 항상 같으므로 순위는 직접 계산 : 제목 전체 일치 > 검색어로 시작 > 그 외, 같은 순위는 짧은 제목 우선
+    @Query(value = "SELECT t.id FROM FT_SEARCH_DATA(:query, 0, 0) ft " +
+            "JOIN todos t ON t.id = CAST(ft.KEYS[1] AS INT) " +
+            "WHERE ft.\"TABLE\" = 'TODOS' AND t.user_id = :userId " +
+            "ORDER BY CASE WHEN LOWER(t.title) = LOWER(:query) THEN 0 " +
+            "WHEN POSITION(LOWER(:query), LOWER(t.title)) = 1 THEN 1 ELSE 2 END, LENGTH(t.title), t.id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Integer> searchTitleIds(@Param("userId") int userId, @Param("query") String query,
+                                 @Param("limit") int limit, @Param("offset") int offset);
+
+    // 사용자의 모든 할 일의 [todoId, categoryId, completed] 목록 (태그 색인을 만들 때 사용, 엔티티를 만들지 않음)
+    @Query("SELECT t.id, t.category.id, t.completed FROM Todo t WHERE t.user.id = :userId")
+    List<Object[]> findTagIndexRowsByUserId(@Param("userId") int userId);
+
+    // 사용자의 모든 할 일의 [todoId, categoryId, completed, priority, dueDate] 목록 (통계 카운터를 만들 때 사용)
+    @Query("SELECT t.id, t.category.id, t.completed, t.priority, t.dueDate FROM Todo t WHERE t.user.id = :userId")
+    List<Object[]> findStatsRowsByUserId(@Param("userId") int userId);
+
+    // 사용자의 카테고리/완료 여부/우선순위별 할 일 수 (메모리 통계 검증용)
+    @Query("SELECT t.category.id AS categoryId, t.completed AS completed, t.priority AS priority, COUNT(t) AS count " +
+            "FROM Todo t WHERE t.user.id = :userId GROUP BY t.category.id, t.completed, t.priority")
+    List<CategoryCountRow> countByCategory(@Param("userId") int userId);
+
+    // 사용자의 카테고리별 기한이 지난 미완료 할 일 수 (메모리 통계 검증용)
+    @Query("SELECT t.category.id AS categoryId, COUNT(t) AS count FROM Todo t " +
+            "WHERE t.user.id = :userId AND t.completed = false AND t.dueDate < :now GROUP BY t.category.id")
+    List<CategoryOverdueRow> countOverdueByCategory(@Param("userId") int userId, @Param("now") LocalDateTime now);
+
+    // 마감 기한이 [from, to) 구간인 미완료 할 일의 [todoId, userId, categoryId, title, dueDate] 목록 (마감 알림 로드용)
+    // (dueDate, id) 키셋으로 limit 개씩 나눠 읽음. 첫 페이지는 afterDue = from, afterId = Integer.MIN_VALUE
+    @Query("SELECT t.id, t.user.id, t.category.id, t.title, t.dueDate FROM Todo t " +
+            "WHERE t.completed = false AND t.dueDate >= :from AND t.dueDate < :to " +
+            "AND (t.dueDate > :afterDue OR (t.dueDate = :afterDue AND t.id > :afterId)) " +
+            "ORDER BY t.dueDate, t.id")
+    List<Object[]> findReminderRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                    @Param("afterDue") LocalDateTime afterDue, @Param("afterId") int afterId, Limit limit);
 
-    // 카테고리 Id와 할 일 Id로 특정 단일 할 일 조회
-    Optional<Todo> findByCategoryIdAndId(int categoryId, int id);
+    // 여러 할 일 중 마감 기한이 있는 미완료 할 일의 [todoId, userId, categoryId, title, dueDate] 목록 (일괄 변경 후 마감 알림 갱신용)
+    @Query("SELECT t.id, t.user.id, t.category.id, t.title, t.dueDate FROM Todo t " +
+            "WHERE t.id IN :ids AND t.completed = false AND t.dueDate IS NOT NULL")
+    List<Object[]> findReminderRowsByIdIn(@Param("ids") Collection<Integer> ids);
 
-    // 특정 카테고리에 속하고 완료되지 않은 할 일 목록 조회 및 정렬
-    List<Todo> findByCategoryIdAndCompletedFalseOrderByPositionAsc(int categoryId);
+    // 사용자의 모든 할 일의 태그 : [todoId, tag] 쌍 목록
+    @Query("SELECT t.id, tag FROM Todo t JOIN t.tags tag WHERE t.user.id = :userId")
+    List<Object[]> findTagPairsByUserId(@Param("userId") int userId);
 
-    // 특정 카테고리에 속하고 완료된 할 일 목록 조회 및 정렬
-    List<Todo> findByCategoryIdAndCompletedTrueOrderByPositionAsc(int categoryId);
+    // 여러 할 일의 태그를 한 번에 조회 : [todoId, tag] 쌍 목록
+    @Query("SELECT t.id, tag FROM Todo t JOIN t.tags tag WHERE t.id IN :ids")
+    List<Object[]> findTagPairsByTodoIdIn(@Param("ids") Collection<Integer> ids);
 }
@@ -0,0 +1,9 @@
+package com.example.todo_app.repository;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 할 일 프로젝션 (JPQL 생성자 표현식 SELECT new ... 로 생성)
+// 엔티티를 만들지 않으므로 영속성 컨텍스트에 쌓이지 않고 변경 감지(dirty checking) 대상도 아님. 태그는 별도 쿼리로 한 번에 조회
+public record TodoRow(int id, String title, boolean completed, LocalDateTime dueDate, int priority, Integer position,
+                      LocalDateTime createdAt, LocalDateTime updatedAt, int userId) {
+}
@@ -0,0 +1,29 @@
+package com.example.todo_app.repository;
+
+import com.example.todo_app.model.TodoTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Integer> {
+
+    // 마지막으로 받은 (deletedAt, id) 이후의 삭제 기록을 순서대로 조회 (user_id, deleted_at, id 인덱스 사용)
+    @Query("SELECT t FROM TodoTombstone t WHERE t.userId = :userId " +
+            "AND (t.deletedAt > :deletedAt OR (t.deletedAt = :deletedAt AND t.id > :id)) AND t.deletedAt <= :until " +
+            "ORDER BY t.deletedAt ASC, t.id ASC")
+    List<TodoTombstone> findDeletedSince(@Param("userId") int userId, @Param("deletedAt") LocalDateTime deletedAt, @Param("id") int id,
+                                         @Param("until") LocalDateTime until, Limit limit);
+
+    // 보존 기간이 지난 삭제 기록을 한 번의 DELETE 로 정리
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TodoTombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,12 @@
+package com.example.todo_app.repository;
+
+// 인증에 필요한 사용자 필드만 담는 프로젝션
+// User 엔티티 전체(할 일 목록 포함)를 로드하지 않고 id, username, password 컬럼만 조회
+public interface UserCredentials {
+
+    int getId();
+
+    String getUsername();
+
+    String getPassword();  // 암호화된 비밀번호
+}
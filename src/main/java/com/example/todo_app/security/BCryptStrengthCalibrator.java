@@ -0,0 +1,45 @@
+package com.example.todo_app.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+// 현재 서버에서 BCrypt 해시 한 번이 목표 시간에 가깝도록 cost(strength) 를 계산
+// cost 가 1 오를 때마다 해시 시간이 2배가 되므로, 기준 cost 로 한 번만 측정해서 나머지는 계산으로 구함
+public final class BCryptStrengthCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BCryptStrengthCalibrator.class);
+
+    // BCryptPasswordEncoder 의 기본값. 이보다 낮은 cost 는 사용하지 않음
+    static final int MIN_STRENGTH = 10;
+    static final int MAX_STRENGTH = 16;
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptStrengthCalibrator() {}
+
+    public static int calibrate(long targetMillis) {
+        String salt = BCrypt.gensalt(MIN_STRENGTH);
+        BCrypt.hashpw(SAMPLE_PASSWORD, salt);  // JIT 워밍업
+
+        long start = System.nanoTime();
+        BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+        double baseMillis = Math.max((System.nanoTime() - start) / 1_000_000.0, 0.001);
+
+        int strength = strengthFor(baseMillis, targetMillis);
+        logger.info("BCrypt cost 보정: cost {} 에서 {}ms -> 목표 {}ms 에 맞춰 cost {} 사용",
+                MIN_STRENGTH, String.format("%.1f", baseMillis), targetMillis, strength);
+        return strength;
+    }
+
+    // MIN_STRENGTH 에서의 해시 시간이 baseMillis 일 때, 목표 시간을 넘지 않는 가장 높은 cost
+    static int strengthFor(double baseMillis, long targetMillis) {
+        int strength = MIN_STRENGTH;
+        double millis = baseMillis;
+        while (strength < MAX_STRENGTH && millis * 2 <= targetMillis) {
+            millis *= 2;
+            strength++;
+        }
+        return strength;
+    }
+}
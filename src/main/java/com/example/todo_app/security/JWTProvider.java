@@ -1,9 +1,14 @@
 package com.example.todo_app.security;
 
+import com.example.todo_app.utils.LruCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +20,8 @@ import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 public class JWTProvider {
@@ -27,9 +34,57 @@ public class JWTProvider {
 
     private Key signingKey;
 
+    // 서명 키로 한 번만 생성해서 재사용하는 파서 (불변 객체라 여러 스레드에서 공유 가능)
+    private JwtParser jwtParser;
+
     // 토큰 유효 기간 : 1시간
     private static final long VALIDITY_IN_MILLISECONDS = 3600000;
 
+    // 검증이 끝난 토큰 캐시의 최대 크기
+    @Value("${jwt.cache.max-size:10000}")
+    private int tokenCacheMaxSize;
+
+    // 검증이 끝난 토큰 -> 사용자 ID 캐시 (같은 토큰이 반복해서 들어오면 서명 검증을 건너뜀)
+    private LruCache<String, VerifiedToken> verifiedTokenCache;
+
+    private final LongAdder tokenCacheHits = new LongAdder();
+    private final LongAdder tokenCacheMisses = new LongAdder();
+
+    // 토큰 검증 시간 (result = cached : 캐시 적중, verified : 서명 검증 성공, invalid : 유효하지 않은 토큰)
+    private final Timer cachedVerificationTimer;
+    private final Timer verifiedVerificationTimer;
+    private final Timer invalidVerificationTimer;
+
+    public JWTProvider(MeterRegistry meterRegistry) {
+        this.cachedVerificationTimer = verificationTimer(meterRegistry, "cached");
+        this.verifiedVerificationTimer = verificationTimer(meterRegistry, "verified");
+        this.invalidVerificationTimer = verificationTimer(meterRegistry, "invalid");
+        FunctionCounter.builder("jwt.token.cache", tokenCacheHits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.token.cache", tokenCacheMisses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verification")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // 캐시에 저장되는 검증 결과 : 사용자 ID 와 토큰 만료 시각
+    private static class VerifiedToken {
+        private final int userId;
+        private final long expiresAtMillis;
+
+        private VerifiedToken(int userId, long expiresAtMillis) {
+            this.userId = userId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
     @PostConstruct
     public void init() {
         try {
@@ -38,6 +93,8 @@ public class JWTProvider {
             }
             // Base64 디코딩된 Secret Key 를 Key 객체로 변환
             signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+            jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+            verifiedTokenCache = new LruCache<>(tokenCacheMaxSize);
             logger.info("JWTProvider 초기화 완료: SECRET_KEY 가 설정되었습니다.");
         } catch (IllegalArgumentException e) {
             logger.error("SECRET_KEY 가 유효하지 않은 Base64 문자열입니다.", e);
@@ -63,10 +120,13 @@ public class JWTProvider {
 
     // JWT 토큰 검증
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    // 토큰 파싱 및 서명 검증을 한 번만 수행하고 클레임을 반환. 유효하지 않은 토큰이면 null 반환
+    public Claims parseClaims(String token) {
         try {
-            // 토큰 파싱 및 서명 검증
-            Jwts.parserBuilder().setSigningKey(signingKey).build().parseClaimsJws(token);
-            return true;  // 유효한 토큰
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (io.jsonwebtoken.security.SecurityException e) {
             logger.error("서명이 유효하지 않은 JWT 토큰", e);
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
@@ -76,17 +136,13 @@ public class JWTProvider {
         } catch (Exception e) {
             logger.error("JWT 토큰 처리 중 알 수 없는 오류", e);
         }
-        return false;  // 유효하지 않은 토큰
+        return null;  // 유효하지 않은 토큰
     }
 
     // 사용자 ID를 클레임에서 직접 추출하며, Integer 타입으로 반환
     public int getUserIdFromToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
             return claims.get("userId", Integer.class);  // 사용자 ID를 클레임에서 직접 가져오기
         } catch (Exception e) {
             logger.error("JWT 토큰에서 사용자 ID 를 추출하는 중 오류가 발생했습니다.", e);
@@ -94,6 +150,55 @@ public class JWTProvider {
         }
     }
 
+    // 토큰을 검증하고 사용자 ID 를 반환. 유효하지 않은 토큰이면 null 반환
+    // 최근에 검증한 토큰은 캐시에서 바로 꺼내므로, 만료 전까지는 서명 검증을 다시 하지 않음
+    public Integer resolveUserId(String token) {
+        long startNanos = System.nanoTime();
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            if (cached.expiresAtMillis > System.currentTimeMillis()) {
+                tokenCacheHits.increment();
+                cachedVerificationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                return cached.userId;
+            }
+            verifiedTokenCache.remove(token);  // 만료된 토큰은 캐시에서 제거
+        }
+        tokenCacheMisses.increment();
+
+        Integer userId = verifyAndCache(token);
+        Timer timer = (userId != null) ? verifiedVerificationTimer : invalidVerificationTimer;
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        return userId;
+    }
+
+    // 서명을 검증하고, 유효한 토큰이면 만료 시각까지 캐시에 저장
+    private Integer verifyAndCache(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        Integer userId = claims.get("userId", Integer.class);
+        if (userId == null) {
+            logger.error("JWT 토큰에 사용자 ID 클레임이 없습니다.");
+            return null;
+        }
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            verifiedTokenCache.put(token, new VerifiedToken(userId, expiration.getTime()));
+        }
+        return userId;
+    }
+
+    // 토큰 캐시 적중 횟수
+    public long getTokenCacheHits() {
+        return tokenCacheHits.sum();
+    }
+
+    // 토큰 캐시 미스 횟수 (서명 검증을 실제로 수행한 횟수)
+    public long getTokenCacheMisses() {
+        return tokenCacheMisses.sum();
+    }
+
     // getAuthentication 메서드
     public Authentication getAuthentication(UserDetails userDetails) {
         return new UsernamePasswordAuthenticationToken(
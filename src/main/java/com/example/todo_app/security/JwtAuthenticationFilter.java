@@ -42,11 +42,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
         logger.debug("추출된 토큰: " + token);
 
-        if (token != null && jwtProvider.validateToken(token)) {
+        // 토큰 검증과 사용자 ID 추출을 한 번에 수행 (검증된 토큰은 캐시 사용)
+        Integer userId = (token != null) ? jwtProvider.resolveUserId(token) : null;
+
+        if (userId != null) {
             logger.info("토큰이 유효합니다.");
             try {
-                // 토큰에서 사용자 ID 추출 및 UserDetails 로드
-                int userId = jwtProvider.getUserIdFromToken(token);
+                // 토큰에서 추출한 사용자 ID 로 UserDetails 로드
                 UserDetails userDetails = userDetailsService.loadUserByUsername(String.valueOf(userId));
                 logger.debug("로드된 사용자 정보: " + userDetails);
 
@@ -0,0 +1,143 @@
+package com.example.todo_app.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비밀번호 해시(BCrypt) 전용 실행기
+// 요청 스레드에서 직접 해시하면 로그인이 몰릴 때 Tomcat 스레드가 모두 묶여 할 일 API 까지 멈추므로,
+// 해시는 크기가 제한된 별도 스레드 풀에서 실행하고 요청 스레드는 결과만 기다림
+// 적응형 승인 제어 : 대기열 길이 x 최근 해시 시간으로 예상 대기 시간을 계산해서 max-wait 을 넘으면 바로 거절 (503)
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    // 해시 시간 지수 이동 평균(EWMA)의 가중치
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final long maxWaitMillis;
+    private final Counter rejectedCounter;
+
+    private volatile double averageHashMillis;  // 최근 해시 한 번에 걸린 평균 시간
+
+    @Autowired
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${security.password-hashing.threads:0}") int threads,
+                                   @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.password-hashing.max-wait-ms:2000}") long maxWaitMillis,
+                                   @Value("${security.password-hashing.target-ms:250}") long targetMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.threads = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();  // 0 이면 CPU 코어 수
+        this.maxWaitMillis = maxWaitMillis;
+        this.averageHashMillis = targetMillis;  // 측정 전에는 목표 시간으로 가정
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(this.threads, this.threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());  // 대기열이 가득 차면 RejectedExecutionException
+
+        this.rejectedCounter = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    // 비밀번호 암호화 (회원가입, 해시 업그레이드)
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 비밀번호 비교 (로그인)
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return Boolean.TRUE.equals(execute(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮으면 true -> 다음 로그인 성공 시 다시 암호화
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        // 지금 대기열 뒤에 서면 기다려야 하는 예상 시간
+        double expectedWaitMillis = (executor.getQueue().size() + 1) * averageHashMillis / threads;
+        if (expectedWaitMillis > maxWaitMillis) {
+            throw reject("예상 대기 시간 " + Math.round(expectedWaitMillis) + "ms");
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    recordHashTime((System.nanoTime() - start) / 1_000_000.0);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject("대기열이 가득 참");
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);  // 아직 시작하지 않았다면 대기열에서 제거
+            throw reject("대기 시간 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new IllegalStateException("비밀번호 해시 작업이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 작업에 실패했습니다.", cause);
+        }
+    }
+
+    private void recordHashTime(double millis) {
+        averageHashMillis = averageHashMillis + EWMA_ALPHA * (millis - averageHashMillis);
+    }
+
+    private PasswordHashingRejectedException reject(String reason) {
+        rejectedCounter.increment();
+        logger.warn("비밀번호 해시 요청 거절: {}", reason);
+        return new PasswordHashingRejectedException("요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+
+    // 대기열에서 실행을 기다리는 해시 작업 수
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
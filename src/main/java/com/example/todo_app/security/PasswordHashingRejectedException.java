@@ -0,0 +1,9 @@
+package com.example.todo_app.security;
+
+// 비밀번호 해시 작업이 몰려서 더 받을 수 없을 때 발생 -> 503 Service Unavailable 로 응답
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.todo_app.security;
+
+import com.example.todo_app.utils.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 사용자 ID -> 인증 정보(CustomUserDetails) 캐시
+// 요청마다 DB 에서 사용자를 조회하지 않도록 최근에 인증한 사용자 정보를 메모리에 보관
+// 사용자 정보가 바뀌면 evict 로 해당 항목을 제거해야 함
+@Component
+public class PrincipalCache {
+
+    private final LruCache<Integer, CustomUserDetails> cache;
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    public CustomUserDetails get(int userId) {
+        return cache.get(userId);
+    }
+
+    public void put(CustomUserDetails userDetails) {
+        cache.put(userDetails.getUserId(), userDetails);
+    }
+
+    public void evict(int userId) {
+        cache.remove(userId);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.todo_app.security;
+
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// SecurityContext 에서 현재 로그인한 사용자 정보를 꺼내는 유틸리티
+public final class SecurityUtils {
+
+    private SecurityUtils() {}
+
+    // 현재 로그인한 사용자의 ID 반환. 인증되지 않은 요청이면 예외 발생
+    public static int getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            throw new InsufficientAuthenticationException("인증되지 않은 사용자입니다.");
+        }
+        return userDetails.getUserId();
+    }
+
+    // 현재 로그인한 사용자의 ID. 인증되지 않았으면 null
+    public static Integer findCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return null;
+        }
+        return userDetails.getUserId();
+    }
+}
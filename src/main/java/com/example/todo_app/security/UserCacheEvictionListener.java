@@ -0,0 +1,37 @@
+package com.example.todo_app.security;
+
+import com.example.todo_app.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// User 엔티티가 수정되거나 삭제되면 PrincipalCache 에서 해당 사용자를 제거하는 JPA 엔티티 리스너
+// Hibernate 가 Spring 빈으로 생성하므로 생성자 주입을 사용할 수 있음
+@Component
+public class UserCacheEvictionListener {
+
+    private final PrincipalCache principalCache;
+
+    public UserCacheEvictionListener(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        int userId = user.getId();
+        principalCache.evict(userId);
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시에 넣을 수 있으므로, 커밋 후에도 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.evict(userId);
+                }
+            });
+        }
+    }
+}
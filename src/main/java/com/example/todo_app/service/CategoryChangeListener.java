@@ -0,0 +1,39 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.model.Category;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Category 엔티티가 저장/수정/삭제되면 메모리의 카테고리 목록을 무효화하는 JPA 엔티티 리스너
+@Component
+public class CategoryChangeListener {
+
+    private final CategoryService categoryService;
+
+    // CategoryService -> CategoryRepository -> EntityManagerFactory 순환을 피하기 위해 지연 주입
+    public CategoryChangeListener(@Lazy CategoryService categoryService) {
+        this.categoryService = categoryService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCategoryChanged(Category category) {
+        categoryService.invalidate();
+
+        // 커밋 전에 다시 로드된 목록에는 변경 사항이 없으므로, 커밋 후에도 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    categoryService.invalidate();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.CategoryDTO;
+import com.example.todo_app.repository.CategoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 카테고리 목록을 메모리에 보관하는 서비스
+// 카테고리는 마이그레이션(V4__insert_categories.sql)으로 한 번 저장된 뒤 거의 바뀌지 않으므로, 시작할 때 한 번 읽어서 JSON 과 ETag 까지 미리 만들어 둠
+// 카테고리가 바뀌면 invalidate 되고, 다음 조회 시 다시 로드
+@Service
+public class CategoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoryService.class);
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Catalog catalog;  // null 이면 다음 조회 시 다시 로드
+
+    // 로드 중에는 DB 를 조회하므로 synchronized 대신 ReentrantLock 사용 (가상 스레드가 캐리어 스레드에 고정되지 않음)
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    public CategoryService(CategoryRepository categoryRepository, ObjectMapper objectMapper) {
+        this.categoryRepository = categoryRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // 변경되지 않는 카테고리 목록 스냅샷 : 목록, 미리 직렬화한 JSON, 강한 ETag
+    public static final class Catalog {
+        private final List<CategoryDTO> categories;
+        private final byte[] json;
+        private final String etag;
+
+        private Catalog(List<CategoryDTO> categories, byte[] json, String etag) {
+            this.categories = categories;
+            this.json = json;
+            this.etag = etag;
+        }
+
+        public List<CategoryDTO> getCategories() {
+            return categories;
+        }
+
+        // 응답 본문으로 그대로 사용하므로 수정하면 안 됨
+        public byte[] getJson() {
+            return json;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+
+    // 애플리케이션 시작 시 카테고리 목록을 미리 로드
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        getCatalog();
+    }
+
+    // 현재 카테고리 목록 스냅샷 반환 (DB 조회 없음)
+    public Catalog getCatalog() {
+        Catalog current = catalog;
+        if (current == null) {
+            loadLock.lock();
+            try {
+                current = catalog;
+                if (current == null) {
+                    current = load();
+                    catalog = current;
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    // 카테고리가 변경되었을 때 호출 -> 다음 조회 시 다시 로드
+    public void invalidate() {
+        catalog = null;
+    }
+
+    private Catalog load() {
+        List<CategoryDTO> categories = categoryRepository.findAll(Sort.by("id"))
+                .stream()
+                .map(category -> new CategoryDTO(category.getId(), category.getName()))
+                .toList();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(categories);
+            String etag = "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json)) + "\"";
+            logger.info("카테고리 목록 로드 완료: {}개, ETag {}", categories.size(), etag);
+            return new Catalog(categories, json, etag);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("카테고리 목록을 직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.todo_app.service;
+
+// 변경 사항 조회 커서가 삭제 기록 보존 기간보다 오래되었을 때 발생 -> 410 Gone
+// 그 사이의 삭제 기록이 이미 정리되었을 수 있으므로, 클라이언트는 커서 없이 전체를 다시 동기화해야 함
+public class ChangeCursorExpiredException extends RuntimeException {
+
+    public ChangeCursorExpiredException(String message) {
+        super(message);
+    }
+}
@@ -1,32 +1,45 @@
 package com.example.todo_app.service;
 
+import com.example.todo_app.repository.UserCredentials;
 import com.example.todo_app.repository.UserRepository;
 import com.example.todo_app.security.CustomUserDetails;
+import com.example.todo_app.security.PrincipalCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import com.example.todo_app.model.User;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     public final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, PrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
         try {
             int id = Integer.parseInt(userId); // String(userId) 을 int 로 변환
-            User user = userRepository.findById(id)
+
+            // 최근에 인증한 사용자는 캐시에서 바로 반환 (DB 조회 없음)
+            CustomUserDetails cached = principalCache.get(id);
+            if (cached != null) {
+                return cached;
+            }
+
+            // 인증에 필요한 컬럼만 조회 (할 일 목록은 로드하지 않음)
+            UserCredentials user = userRepository.findCredentialsById(id)
                     .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + id));
 
             // Spring Security 와 통합하기 위해 CustomUserDetails 객체를 반환
             // 이는 User 객체의 데이터를 Spring Security 가 사용할 수 있는 형식으로 변환
-            return new CustomUserDetails(user.getId(), user.getUsername(), user.getPassword());
+            CustomUserDetails userDetails = new CustomUserDetails(user.getId(), user.getUsername(), user.getPassword());
+            principalCache.put(userDetails);
+            return userDetails;
         } catch (NumberFormatException e) {
             throw new UsernameNotFoundException("유효하지 않은 사용자 ID: " + userId);
         }
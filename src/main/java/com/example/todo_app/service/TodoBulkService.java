@@ -0,0 +1,195 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.TodoBulkResultDTO;
+import com.example.todo_app.dto.TodoBulkUpdateDTO;
+import com.example.todo_app.dto.TodoSelectorDTO;
+import com.example.todo_app.event.TodosBulkChangedEvent;
+import com.example.todo_app.repository.TodoBulkRepository;
+import com.example.todo_app.security.SecurityUtils;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 여러 할 일을 조건(selector)으로 골라 한 번에 변경/삭제
+// 대상의 [ID, 카테고리] 만 조회하고 (엔티티 없음), 변경은 사용자 조건이 포함된 UPDATE 문 하나,
+// 삭제는 삭제 기록 INSERT ... SELECT, 태그 DELETE, 할 일 DELETE 세 문으로 실행 (대상 수와 관계없이 문 개수가 일정)
+// 완료 항목 정리(clearCompleted)는 사용자가 좁힐 조건이 없으므로 개수 제한 없이 MAX_BULK_SIZE 개씩 나눠서 한 트랜잭션으로 삭제
+// 커밋 후 TodosBulkChangedEvent 리스너가 목록 버전, 태그 색인, 통계, 마감 알림, 변경 이력을 갱신
+@Service
+@Timed(value = "todo.service", histogram = true)
+public class TodoBulkService {
+
+    // 한 번의 요청으로 바꿀 수 있는 최대 할 일 개수
+    static final int MAX_BULK_SIZE = 1000;
+
+    private final TodoBulkRepository todoBulkRepository;
+    private final TodoListVersions todoListVersions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public TodoBulkService(TodoBulkRepository todoBulkRepository, TodoListVersions todoListVersions,
+                           ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+        this.todoBulkRepository = todoBulkRepository;
+        this.todoListVersions = todoListVersions;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 조건에 맞는 현재 사용자의 할 일을 일괄 수정
+    // 응답의 목록 버전(ETag)은 커밋 후 리스너가 버전을 올린 다음에 읽어야 하므로, 트랜잭션을 직접 열고 닫음
+    public TodoBulkResultDTO updateTodos(TodoBulkUpdateDTO request) {
+        if (request.getPriority() != null && (request.getPriority() < 1 || request.getPriority() > 3)) {
+            throw new IllegalArgumentException("우선순위는 1 이상 3 이하여야 합니다: " + request.getPriority());
+        }
+        if (request.getCompleted() == null && request.getPriority() == null && request.getDueDate() == null && !request.getClearDueDate()) {
+            throw new IllegalArgumentException("변경할 필드(completed, priority, dueDate, clearDueDate)를 하나 이상 지정해야 합니다.");
+        }
+        TodoBulkRepository.Selector selector = toSelector(request.getSelector());
+        TodoBulkRepository.Changes changes = new TodoBulkRepository.Changes(
+                request.getCompleted(), request.getPriority(), request.getDueDate(), request.getClearDueDate());
+        int userId = SecurityUtils.getCurrentUserId();
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<Integer> categoryIds = new TreeSet<>();
+        Integer count = transactionTemplate.execute(status -> {
+            List<Integer> targetIds = findTargets(userId, selector, categoryIds);
+            if (targetIds.isEmpty()) {
+                return 0;
+            }
+            int updated = todoBulkRepository.update(userId, selector, targetIds, changes, now);
+            eventPublisher.publishEvent(new TodosBulkChangedEvent(
+                    TodosBulkChangedEvent.Type.UPDATED, userId, targetIds, categoryIds, describe(changes)));
+            return updated;
+        });
+        return new TodoBulkResultDTO(count, now, versions(userId, categoryIds));
+    }
+
+    // 조건에 맞는 현재 사용자의 할 일 일괄 삭제
+    public TodoBulkResultDTO deleteTodos(TodoSelectorDTO request) {
+        return delete(toSelector(request));
+    }
+
+    // 카테고리의 완료된 할 일 모두 삭제
+    // 개수 제한 없이, 남은 완료 항목을 MAX_BULK_SIZE 개씩 조회해서 삭제하기를 더 없을 때까지 반복 (한 트랜잭션)
+    // 삭제된 행은 다음 조회에 나오지 않으므로 커서 없이 처음부터 다시 조회하면 됨
+    public TodoBulkResultDTO clearCompleted(int categoryId) {
+        TodoBulkRepository.Selector selector = new TodoBulkRepository.Selector(null, categoryId, true, null);
+        int userId = SecurityUtils.getCurrentUserId();
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<Integer> categoryIds = new TreeSet<>();
+        Integer count = transactionTemplate.execute(status -> {
+            List<Integer> deletedIds = new ArrayList<>();
+            int deleted = 0;
+            List<Integer> targetIds;
+            do {
+                targetIds = collectTargets(todoBulkRepository.findTargets(userId, selector, MAX_BULK_SIZE), categoryIds);
+                if (!targetIds.isEmpty()) {
+                    deleted += delete(userId, targetIds, now);
+                    deletedIds.addAll(targetIds);
+                }
+            } while (targetIds.size() == MAX_BULK_SIZE);
+            publishDeleted(userId, deletedIds, categoryIds);
+            return deleted;
+        });
+        return new TodoBulkResultDTO(count, now, versions(userId, categoryIds));
+    }
+
+    private TodoBulkResultDTO delete(TodoBulkRepository.Selector selector) {
+        int userId = SecurityUtils.getCurrentUserId();
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<Integer> categoryIds = new TreeSet<>();
+        Integer count = transactionTemplate.execute(status -> {
+            List<Integer> targetIds = findTargets(userId, selector, categoryIds);
+            int deleted = targetIds.isEmpty() ? 0 : delete(userId, targetIds, now);
+            publishDeleted(userId, targetIds, categoryIds);
+            return deleted;
+        });
+        return new TodoBulkResultDTO(count, now, versions(userId, categoryIds));
+    }
+
+    // 삭제 기록을 먼저 저장한 뒤 태그, 할 일 순서로 삭제하고, 삭제된 행 수를 반환
+    // 변경 이력(todo_history)은 할 일과 외래 키로 연결되지 않은 감사 기록이므로 남겨 둠 (단건 삭제와 같음)
+    private int delete(int userId, List<Integer> targetIds, LocalDateTime now) {
+        todoBulkRepository.insertTombstones(userId, targetIds, now);
+        todoBulkRepository.deleteTags(userId, targetIds);
+        return todoBulkRepository.deleteTodos(userId, targetIds);
+    }
+
+    private void publishDeleted(int userId, List<Integer> targetIds, Set<Integer> categoryIds) {
+        if (!targetIds.isEmpty()) {
+            eventPublisher.publishEvent(new TodosBulkChangedEvent(
+                    TodosBulkChangedEvent.Type.DELETED, userId, targetIds, categoryIds, "일괄 삭제"));
+        }
+    }
+
+    // 대상 ID 목록 (카테고리는 categoryIds 에 추가). 최대 개수를 넘으면 아무것도 바꾸지 않고 예외
+    private List<Integer> findTargets(int userId, TodoBulkRepository.Selector selector, Set<Integer> categoryIds) {
+        List<Object[]> targets = todoBulkRepository.findTargets(userId, selector, MAX_BULK_SIZE + 1);
+        if (targets.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 할 일은 최대 " + MAX_BULK_SIZE + "개입니다. 조건을 좁혀 주세요.");
+        }
+        return collectTargets(targets, categoryIds);
+    }
+
+    // [todoId, categoryId] 목록에서 ID 목록을 만들고, 카테고리는 categoryIds 에 추가
+    private static List<Integer> collectTargets(List<Object[]> targets, Set<Integer> categoryIds) {
+        List<Integer> targetIds = new ArrayList<>(targets.size());
+        for (Object[] target : targets) {
+            targetIds.add((Integer) target[0]);
+            categoryIds.add((Integer) target[1]);
+        }
+        return targetIds;
+    }
+
+    private TodoBulkRepository.Selector toSelector(TodoSelectorDTO selector) {
+        if (selector == null || (selector.getIds() == null && selector.getCategoryId() == null
+                && selector.getCompleted() == null && selector.getTag() == null)) {
+            throw new IllegalArgumentException("대상 조건(ids, categoryId, completed, tag)을 하나 이상 지정해야 합니다.");
+        }
+        List<Integer> ids = selector.getIds();
+        if (ids != null && (ids.isEmpty() || ids.size() > MAX_BULK_SIZE)) {
+            throw new IllegalArgumentException("ids 는 1개 이상 " + MAX_BULK_SIZE + "개 이하로 지정해야 합니다.");
+        }
+        String tag = (selector.getTag() == null || selector.getTag().isBlank()) ? null : selector.getTag().trim();
+        return new TodoBulkRepository.Selector(ids, selector.getCategoryId(), selector.getCompleted(), tag);
+    }
+
+    // 변경된 카테고리 목록의 현재 ETag (카테고리 ID 순)
+    private Map<Integer, String> versions(int userId, Set<Integer> categoryIds) {
+        Map<Integer, String> versions = new LinkedHashMap<>();
+        for (int categoryId : categoryIds) {
+            versions.put(categoryId, todoListVersions.etag(userId, categoryId));
+        }
+        return versions;
+    }
+
+    // 변경 이력에 남길 설명 (예: "일괄 수정: 완료 true, 우선순위 2")
+    private static String describe(TodoBulkRepository.Changes changes) {
+        List<String> parts = new ArrayList<>();
+        if (changes.completed() != null) {
+            parts.add("완료 " + changes.completed());
+        }
+        if (changes.priority() != null) {
+            parts.add("우선순위 " + changes.priority());
+        }
+        if (changes.clearDueDate()) {
+            parts.add("마감 기한 없음");
+        } else if (changes.dueDate() != null) {
+            parts.add("마감 기한 " + changes.dueDate());
+        }
+        return "일괄 수정: " + String.join(", ", parts);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.event.TodoChangedEvent;
+import com.example.todo_app.event.TodosBulkChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// (사용자, 카테고리) 목록별 버전 번호
+// 할 일이 바뀔 때마다 커밋 후 버전을 올리고, 목록 조회 응답의 약한(weak) ETag 로 사용
+// -> If-None-Match 가 현재 버전과 같으면 할 일을 조회하지 않고 304 로 응답
+// 버전은 메모리에만 있으므로 서버가 재시작되면 bootId 가 바뀌어 이전 ETag 는 모두 무효가 됨
+@Component
+public class TodoListVersions {
+
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    // 현재 버전의 약한 ETag. 조회 쿼리보다 먼저 읽어야 함
+    // (조회 도중 버전이 올라가면 예전 ETag 로 새 데이터를 주게 되어 다음 요청에서 한 번 더 받을 뿐, 오래된 데이터가 캐시되지는 않음)
+    public String etag(int userId, int categoryId) {
+        AtomicLong version = versions.get(key(userId, categoryId));
+        return "W/\"" + bootId + "-" + (version == null ? 0 : version.get()) + "\"";
+    }
+
+    // 목록이 바뀌었음을 기록 (커밋 후에 호출해야 변경 전 데이터가 새 ETag 로 캐시되지 않음)
+    public void increment(int userId, int categoryId) {
+        versions.computeIfAbsent(key(userId, categoryId), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        increment(event.getUserId(), event.getCategoryId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodosBulkChanged(TodosBulkChangedEvent event) {
+        event.getCategoryIds().forEach(categoryId -> increment(event.getUserId(), categoryId));
+    }
+
+    private static long key(int userId, int categoryId) {
+        return ((long) userId << 32) | (categoryId & 0xFFFFFFFFL);
+    }
+}
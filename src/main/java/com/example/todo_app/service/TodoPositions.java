@@ -0,0 +1,136 @@
+package com.example.todo_app.service;
+
+import java.util.Arrays;
+
+// 할 일 목록의 순서(position) 계산
+// position 은 GAP 간격으로 띄엄띄엄 부여하므로, 항목 하나를 옮길 때 앞뒤 항목 사이의 빈 값을 사용해 한 행만 수정하면 됨
+// 사이에 빈 값이 없을 때만 목록 전체를 다시 번호 매김(renumber)
+final class TodoPositions {
+
+    // 인접한 할 일 사이의 position 간격
+    static final int GAP = 1024;
+
+    private TodoPositions() {}
+
+    // 목록을 처음부터 다시 번호 매길 때 index 번째(0부터) 항목의 position
+    static int renumbered(int index) {
+        return (index + 1) * GAP;
+    }
+
+    // lower 와 upper 사이(둘 다 제외)의 position 반환. null 은 목록의 처음/끝을 의미
+    // 사이에 빈 값이 없으면 null 반환 -> 호출한 쪽에서 renumber 후 다시 계산해야 함
+    static Integer between(Integer lower, Integer upper) {
+        long[] values = spread(lower, upper, 1);
+        return values == null ? null : (int) values[0];
+    }
+
+    // 요청된 순서대로 position 을 다시 계산
+    // 이미 순서가 맞는 항목(가장 긴 증가 부분 수열)은 그대로 두고, 나머지 항목만 빈 값에 배치
+    // 반환 배열에서 current 와 값이 같은 항목은 수정할 필요가 없음
+    static int[] reorder(Integer[] current) {
+        int n = current.length;
+        boolean[] keep = longestIncreasing(current);
+        int[] result = new int[n];
+
+        int i = 0;
+        while (i < n) {
+            if (keep[i]) {
+                result[i] = current[i];
+                i++;
+                continue;
+            }
+            // keep 이 아닌 연속 구간 [i, j) 을 앞뒤 유지 항목 사이에 고르게 배치
+            int j = i;
+            while (j < n && !keep[j]) {
+                j++;
+            }
+            Integer lower = (i > 0) ? Integer.valueOf(result[i - 1]) : null;
+            Integer upper = (j < n) ? current[j] : null;
+            long[] values = spread(lower, upper, j - i);
+            if (values == null) {
+                // 빈 값이 부족하면 전체를 다시 번호 매김
+                int[] renumbered = new int[n];
+                for (int k = 0; k < n; k++) {
+                    renumbered[k] = renumbered(k);
+                }
+                return renumbered;
+            }
+            for (int k = i; k < j; k++) {
+                result[k] = (int) values[k - i];
+            }
+            i = j;
+        }
+        return result;
+    }
+
+    // lower 와 upper 사이에 count 개의 서로 다른 값을 고르게 배치. 불가능하면 null
+    private static long[] spread(Integer lower, Integer upper, int count) {
+        long low;
+        long step;
+        if (lower == null && upper == null) {
+            low = 0;
+            step = GAP;
+        } else if (lower == null) {
+            low = (long) upper - (long) GAP * (count + 1);
+            step = GAP;
+        } else if (upper == null) {
+            low = lower;
+            step = GAP;
+        } else {
+            low = lower;
+            step = ((long) upper - lower) / (count + 1);
+            if (step < 1) {
+                return null;
+            }
+        }
+
+        long[] values = new long[count];
+        for (int k = 0; k < count; k++) {
+            values[k] = low + step * (k + 1);
+        }
+        if (values[0] <= Integer.MIN_VALUE || values[count - 1] > Integer.MAX_VALUE) {
+            return null;  // int 범위를 벗어나면 renumber 필요
+        }
+        return values;
+    }
+
+    // position 이 순증가하는 가장 긴 부분 수열에 속한 항목 표시 (O(n log n))
+    // position 이 null 인 항목은 항상 새로 배치
+    private static boolean[] longestIncreasing(Integer[] positions) {
+        int n = positions.length;
+        int[] tailIndex = new int[n];  // 길이 k+1 인 증가 수열의 마지막 항목 index
+        int[] previous = new int[n];
+        Arrays.fill(previous, -1);
+        int length = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (positions[i] == null) {
+                continue;
+            }
+            int value = positions[i];
+            int lo = 0;
+            int hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (positions[tailIndex[mid]] < value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            if (lo > 0) {
+                previous[i] = tailIndex[lo - 1];
+            }
+            tailIndex[lo] = i;
+            if (lo == length) {
+                length++;
+            }
+        }
+
+        boolean[] keep = new boolean[n];
+        for (int k = (length > 0) ? tailIndex[length - 1] : -1; k >= 0; k = previous[k]) {
+            keep[k] = true;
+        }
+        return keep;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.repository.TodoRow;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 프로젝션 조회 결과(TodoRow)와 [todoId, tag] 쌍 목록을 TodoDTO 목록으로 합침
+final class TodoRows {
+
+    private TodoRows() {}
+
+    static List<TodoDTO> toDTOs(List<TodoRow> rows, List<Object[]> tagPairs) {
+        Map<Integer, List<String>> tagsByTodoId = new HashMap<>();
+        for (Object[] pair : tagPairs) {
+            tagsByTodoId.computeIfAbsent((Integer) pair[0], id -> new ArrayList<>()).add((String) pair[1]);
+        }
+        List<TodoDTO> todoDTOs = new ArrayList<>(rows.size());
+        for (TodoRow row : rows) {
+            todoDTOs.add(new TodoDTO(row.id(), row.title(), row.completed(), row.dueDate(), row.priority(), row.position(),
+                    tagsByTodoId.getOrDefault(row.id(), new ArrayList<>()), row.createdAt(), row.updatedAt(), row.userId()));
+        }
+        return todoDTOs;
+    }
+}
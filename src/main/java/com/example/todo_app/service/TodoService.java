@@ -1,15 +1,35 @@
 package com.example.todo_app.service;
 
+import com.example.todo_app.dto.TodoChangesDTO;
 import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.dto.TodoPageDTO;
+import com.example.todo_app.event.TodoChangedEvent;
 import com.example.todo_app.model.Category;
 import com.example.todo_app.model.Todo;
+import com.example.todo_app.model.TodoTombstone;
 import com.example.todo_app.model.User;
 import com.example.todo_app.repository.CategoryRepository;
 import com.example.todo_app.repository.TodoRepository;
+import com.example.todo_app.repository.TodoRow;
+import com.example.todo_app.repository.TodoTombstoneRepository;
 import com.example.todo_app.repository.UserRepository;
+import com.example.todo_app.security.SecurityUtils;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 // 조회와 (생성,수정)이 메소드 형태가 다른 이유
@@ -19,25 +39,71 @@ import java.util.stream.Collectors;
 // [생성과 수정]은 작업이 성공적으로 완료되었을 때 결과물이 항상 존재하므로, Optional 로 감싸지 않고 그 자체를 반환
 
 @Service
+@Timed(value = "todo.service", histogram = true)  // 모든 public 메서드의 실행 시간 기록 (class, method 태그)
 public class TodoService {
 
+    // 목록 조회 페이지 크기 최대값
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // 한 번의 일괄 생성 요청으로 만들 수 있는 최대 할 일 개수
+    private static final int MAX_BULK_CREATE_SIZE = 500;
+
+    // 태그 검색 시 한 번에 지정할 수 있는 최대 태그 개수
+    private static final int MAX_SEARCH_TAGS = 20;
+
+    // 제목 검색어 최대 길이, 검색 결과를 넘겨볼 수 있는 최대 위치
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    private static final int MAX_SEARCH_OFFSET = 1000;
+
+    // 변경 사항 조회 커서의 시작값 (커서가 없을 때)
+    private static final LocalDateTime SYNC_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final TodoRepository todoRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final TodoTagIndex todoTagIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 변경 사항 조회 시 최근 commit-lag-ms 이내의 변경은 다음 조회로 미룸
+    // (updated_at 은 커밋 시점이 아니라 flush 시점이므로, 먼저 수정되고 늦게 커밋된 행을 놓치지 않기 위함)
+    @Value("${todo.changes.commit-lag-ms:2000}")
+    private long changesCommitLagMillis;
+
+    // 삭제 기록 보존 기간. 이보다 오래된 커서는 410 으로 응답
+    @Value("${todo.changes.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
 
     // 생성자를 통해 TodoRepository 를 주입받음 (의존성 주입)
     @Autowired
-    public TodoService(TodoRepository todoRepository, CategoryRepository categoryRepository, UserRepository userRepository) {
+    public TodoService(TodoRepository todoRepository, CategoryRepository categoryRepository, UserRepository userRepository,
+                       TodoTombstoneRepository todoTombstoneRepository, TodoTagIndex todoTagIndex,
+                       ApplicationEventPublisher eventPublisher) {
         this.todoRepository = todoRepository;
         this.categoryRepository = categoryRepository;
         this.userRepository = userRepository;
+        this.todoTombstoneRepository = todoTombstoneRepository;
+        this.todoTagIndex = todoTagIndex;
+        this.eventPublisher = eventPublisher;
     }
 
-    // To-do 엔티티를 TodoDTO 로 변환
-    private TodoDTO convertToDTO(Todo todo) {
+    // To-do 엔티티를 TodoDTO 로 변환 (벤치마크에서 사용하므로 package-private)
+    TodoDTO convertToDTO(Todo todo) {
         return new TodoDTO(todo.getId(), todo.getTitle(), todo.getCompleted(), todo.getDueDate(), todo.getPriority(), todo.getPosition(), todo.getTags(), todo.getCreatedAt(), todo.getUpdatedAt(), todo.getUser().getId());
     }
 
+    // 변경 이벤트에 담을 현재 상태. 이후 엔티티가 바뀌어도 영향이 없도록 태그 목록을 복사
+    private TodoDTO snapshot(Todo todo) {
+        TodoDTO dto = convertToDTO(todo);
+        dto.setTags(todo.getTags() == null ? null : new ArrayList<>(todo.getTags()));
+        return dto;
+    }
+
+    // 할 일 변경 이벤트 발행 (감사 이력 등은 커밋 후 리스너에서 처리)
+    private void publishChange(TodoChangedEvent.Type type, Todo todo, TodoDTO before, TodoDTO after) {
+        eventPublisher.publishEvent(new TodoChangedEvent(type, todo.getId(), todo.getUser().getId(), todo.getCategory().getId(), before, after));
+    }
+
     // TodoDTO 를 To-do 엔티티로 변환
     private Todo convertToEntity(TodoDTO todoDTO, Category category) {
         Todo todo = new Todo();
@@ -54,6 +120,7 @@ public class TodoService {
     }
 
     // 카테고리 ID를 기반으로 할 일 생성
+    @Transactional
     public TodoDTO createTodoWithCategory(int categoryId, TodoDTO todoDTO) {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + categoryId));
@@ -63,86 +130,422 @@ public class TodoService {
 
         Todo todo = convertToEntity(todoDTO, category);
         todo.setUser(user);  // 할 일에 사용자 설정
+        if (todo.getPosition() == null) {
+            // position 이 없으면 목록의 마지막에 추가 (키셋 페이지 조회는 position 이 있어야 함)
+            todo.setPosition(todoRepository.findMaxPosition(user.getId(), categoryId) + TodoPositions.GAP);
+        }
         Todo savedTodo = todoRepository.save(todo);
+        publishChange(TodoChangedEvent.Type.CREATED, savedTodo, null, snapshot(savedTodo));
 
         return convertToDTO(savedTodo);
     }
 
-    // 모든 카테고리 조회
-    public List<Category> getAllCategories() {
-        return categoryRepository.findAll();
-    }
+    // 카테고리 ID를 기반으로 여러 할 일을 한 번에 생성
+    // 카테고리와 사용자는 한 번만 조회하고, INSERT 는 커밋 시 JDBC 배치로 묶여서 전송됨
+    // 사용자는 요청 본문의 userId 가 아니라 현재 로그인한 사용자로 설정
+    @Transactional
+    public List<TodoDTO> createTodosWithCategory(int categoryId, List<TodoDTO> todoDTOs) {
+        if (todoDTOs.isEmpty() || todoDTOs.size() > MAX_BULK_CREATE_SIZE) {
+            throw new IllegalArgumentException("한 번에 1개 이상 " + MAX_BULK_CREATE_SIZE + "개 이하의 할 일만 생성할 수 있습니다.");
+        }
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + categoryId));
 
-    // 카테고리별 할 일 조회 (position 기준 정렬)
-    public List<TodoDTO> getTodosByCategory(int categoryId) {
-        return todoRepository.findByCategoryIdOrderByPositionAsc(categoryId)
-                .stream()
+        int userId = SecurityUtils.getCurrentUserId();
+        User user = userRepository.getReferenceById(userId);  // 인증된 사용자이므로 SELECT 없이 참조만 사용
+
+        int nextPosition = todoRepository.findMaxPosition(userId, categoryId) + TodoPositions.GAP;
+        List<Todo> todos = new ArrayList<>(todoDTOs.size());
+        for (TodoDTO todoDTO : todoDTOs) {
+            Todo todo = convertToEntity(todoDTO, category);
+            todo.setId(0);  // 항상 새 할 일로 생성
+            todo.setUser(user);
+            if (todo.getPosition() == null) {
+                todo.setPosition(nextPosition);  // 요청 순서대로 목록 끝에 추가
+                nextPosition += TodoPositions.GAP;
+            }
+            todos.add(todo);
+        }
+
+        List<Todo> savedTodos = todoRepository.saveAll(todos);
+        for (Todo savedTodo : savedTodos) {
+            publishChange(TodoChangedEvent.Type.CREATED, savedTodo, null, snapshot(savedTodo));
+        }
+        return savedTodos.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
-    // 특정 카테고리에서 완료되지 않은 할 일 조회 (position 기준 정렬)
-    public List<TodoDTO> getIncompleteTodosByCategory(int categoryId) {
-        return todoRepository.findByCategoryIdAndCompletedFalseOrderByPositionAsc(categoryId)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    // 카테고리별 할 일 조회 (position 기준 정렬, 커서 기반 페이지)
+    @Transactional(readOnly = true)
+    public TodoPageDTO getTodosByCategory(int categoryId, String cursor, int limit) {
+        int userId = SecurityUtils.getCurrentUserId();
+        int[] after = decodeCursor(cursor);
+        int pageSize = clampPageSize(limit);
+        // 다음 페이지가 있는지 알기 위해 한 건 더 조회
+        List<TodoRow> todos = todoRepository.findCategoryPage(userId, categoryId, after[0], after[1], Limit.of(pageSize + 1));
+        return toPage(todos, pageSize);
     }
 
-    // 특정 카테고리에서 완료된 할 일 조회 (position 기준 정렬)
-    public List<TodoDTO> getCompletedTodosByCategory(int categoryId) {
-        return todoRepository.findByCategoryIdAndCompletedTrueOrderByPositionAsc(categoryId)
+    // 특정 카테고리에서 완료되지 않은 할 일 조회 (position 기준 정렬, 커서 기반 페이지)
+    @Transactional(readOnly = true)
+    public TodoPageDTO getIncompleteTodosByCategory(int categoryId, String cursor, int limit) {
+        return getTodosByCategoryAndCompleted(categoryId, false, cursor, limit);
+    }
+
+    // 특정 카테고리에서 완료된 할 일 조회 (position 기준 정렬, 커서 기반 페이지)
+    @Transactional(readOnly = true)
+    public TodoPageDTO getCompletedTodosByCategory(int categoryId, String cursor, int limit) {
+        return getTodosByCategoryAndCompleted(categoryId, true, cursor, limit);
+    }
+
+    private TodoPageDTO getTodosByCategoryAndCompleted(int categoryId, boolean completed, String cursor, int limit) {
+        int userId = SecurityUtils.getCurrentUserId();
+        int[] after = decodeCursor(cursor);
+        int pageSize = clampPageSize(limit);
+        List<TodoRow> todos = todoRepository.findCategoryPageByCompleted(userId, categoryId, completed, after[0], after[1], Limit.of(pageSize + 1));
+        return toPage(todos, pageSize);
+    }
+
+    // 조회 결과를 페이지 응답으로 변환. pageSize 보다 많이 조회되었다면 다음 페이지가 존재
+    // 할 일은 프로젝션(TodoRow)으로 조회했으므로 엔티티 생성/변경 감지 없이 DTO 로 바로 변환
+    private TodoPageDTO toPage(List<TodoRow> todos, int pageSize) {
+        boolean hasNext = todos.size() > pageSize;
+        List<TodoRow> page = hasNext ? todos.subList(0, pageSize) : todos;
+        // 페이지에 포함된 할 일의 태그를 한 번의 쿼리로 조회
+        List<Object[]> tagPairs = page.isEmpty()
+                ? List.of()
+                : todoRepository.findTagPairsByTodoIdIn(page.stream().map(TodoRow::id).collect(Collectors.toList()));
+        List<TodoDTO> todoDTOs = TodoRows.toDTOs(page, tagPairs);
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new TodoPageDTO(todoDTOs, nextCursor);
+    }
+
+    // 태그로 할 일 검색 (ID 순서, 커서 기반 페이지)
+    // matchAll = true 이면 모든 태그를 가진 할 일(AND), false 이면 하나 이상 가진 할 일(OR)
+    // 조건 계산은 사용자별 메모리 태그 색인으로 하고, DB 에서는 해당 페이지의 할 일만 조회
+    @Transactional(readOnly = true)
+    public TodoPageDTO searchByTags(List<String> tags, boolean matchAll, Integer categoryId, Boolean completed,
+                                    String cursor, int limit) {
+        if (tags == null || tags.isEmpty() || tags.size() > MAX_SEARCH_TAGS) {
+            throw new IllegalArgumentException("태그는 1개 이상 " + MAX_SEARCH_TAGS + "개 이하로 지정해야 합니다.");
+        }
+        int userId = SecurityUtils.getCurrentUserId();
+        int afterId = decodeIntCursor(cursor);
+        int pageSize = clampPageSize(limit);
+
+        int[] ids = todoTagIndex.search(userId, tags, matchAll, categoryId, completed);
+        int start = Arrays.binarySearch(ids, afterId);
+        start = (start >= 0) ? start + 1 : -start - 1;  // afterId 바로 다음 ID 부터
+        int end = Math.min(start + pageSize, ids.length);
+        List<Integer> pageIds = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            pageIds.add(ids[i]);
+        }
+
+        List<TodoDTO> todoDTOs = loadInOrder(pageIds);
+        String nextCursor = (end < ids.length) ? encodeIntCursor(ids[end - 1]) : null;
+        return new TodoPageDTO(todoDTOs, nextCursor);
+    }
+
+    // 제목 전문 검색 (순위순, 커서 기반 페이지)
+    // 검색어의 모든 단어가 제목에 포함된 할 일을 찾음. 순위가 계산 값이므로 커서에는 다음 결과의 위치(offset)를 담음
+    @Transactional(readOnly = true)
+    public TodoPageDTO searchByTitle(String query, String cursor, int limit) {
+        if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 1자 이상 " + MAX_SEARCH_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        int userId = SecurityUtils.getCurrentUserId();
+        int offset = Math.max(decodeIntCursor(cursor), 0);
+        if (offset > MAX_SEARCH_OFFSET) {
+            throw new IllegalArgumentException("검색 결과는 " + MAX_SEARCH_OFFSET + "번째까지만 조회할 수 있습니다.");
+        }
+        int pageSize = clampPageSize(limit);
+
+        // 다음 페이지가 있는지 알기 위해 한 건 더 조회
+        List<Integer> ids = todoRepository.searchTitleIds(userId, query.trim(), pageSize + 1, offset);
+        boolean hasNext = ids.size() > pageSize;
+        List<Integer> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+
+        List<TodoDTO> todoDTOs = loadInOrder(pageIds);
+        String nextCursor = hasNext ? encodeIntCursor(offset + pageSize) : null;
+        return new TodoPageDTO(todoDTOs, nextCursor);
+    }
+
+    // 검색 결과 ID 순서대로 할 일을 태그와 함께 한 번의 쿼리로 조회 (여러 카테고리가 섞이므로 categoryId 포함)
+    // 검색 후 삭제된 할 일은 건너뜀
+    private List<TodoDTO> loadInOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, Todo> todosById = todoRepository.findWithTagsByIdIn(ids)
                 .stream()
-                .map(this::convertToDTO)
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+        List<TodoDTO> todoDTOs = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            Todo todo = todosById.get(id);
+            if (todo != null) {
+                TodoDTO dto = convertToDTO(todo);
+                dto.setCategoryId(todo.getCategory().getId());  // 프록시의 ID 만 사용하므로 카테고리 조회 없음
+                todoDTOs.add(dto);
+            }
+        }
+        return todoDTOs;
+    }
+
+    // 정수 하나를 담는 커서 (태그 검색 : 마지막으로 조회한 할 일 ID, 제목 검색 : 다음 결과의 위치) 를 URL-safe Base64 로 인코딩
+    private String encodeIntCursor(int value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int decodeIntCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Integer.MIN_VALUE;
+        }
+        try {
+            return Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+
+    private int clampPageSize(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit 은 1 이상이어야 합니다: " + limit);
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    // 커서 : 마지막으로 조회한 할 일의 "position:id" 를 URL-safe Base64 로 인코딩한 문자열
+    private String encodeCursor(TodoRow last) {
+        String raw = last.position() + ":" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서를 {position, id} 로 디코딩. 커서가 없으면 첫 페이지부터 조회
+    private int[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE};
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            return new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+
+    // 커서 이후에 생성/수정/삭제된 할 일 조회 (변경 사항 동기화)
+    // 생성/수정은 todos.updated_at, 삭제는 todo_tombstones 를 각각 키셋으로 읽음
+    // 커서가 없으면 전체 할 일부터 시작 (삭제 기록은 필요 없으므로 건너뜀)
+    @Transactional(readOnly = true)
+    public TodoChangesDTO getChanges(String since, int limit) {
+        int userId = SecurityUtils.getCurrentUserId();
+        int pageSize = clampPageSize(limit);
+        LocalDateTime until = LocalDateTime.now().minusNanos(changesCommitLagMillis * 1_000_000);
+        ChangeCursor cursor = (since == null || since.isBlank())
+                ? new ChangeCursor(SYNC_EPOCH, 0, until, Integer.MAX_VALUE)
+                : decodeChangeCursor(since);
+        if (cursor.deletedAt().isBefore(LocalDateTime.now().minusDays(tombstoneRetentionDays))) {
+            throw new ChangeCursorExpiredException("커서가 만료되었습니다. 커서 없이 전체를 다시 동기화하세요.");
+        }
+
+        List<Todo> changed = todoRepository.findChangedSince(userId, cursor.updatedAt(), cursor.todoId(), until, Limit.of(pageSize + 1));
+        List<TodoTombstone> deleted = todoTombstoneRepository.findDeletedSince(userId, cursor.deletedAt(), cursor.tombstoneId(), until, Limit.of(pageSize + 1));
+        boolean moreChanged = changed.size() > pageSize;
+        boolean moreDeleted = deleted.size() > pageSize;
+        List<Todo> changedPage = moreChanged ? changed.subList(0, pageSize) : changed;
+        List<TodoTombstone> deletedPage = moreDeleted ? deleted.subList(0, pageSize) : deleted;
+
+        if (!changedPage.isEmpty()) {
+            // 페이지에 포함된 할 일의 태그를 한 번의 쿼리로 로드
+            todoRepository.findWithTagsByIdIn(changedPage.stream().map(Todo::getId).collect(Collectors.toList()));
+        }
+        List<TodoDTO> todoDTOs = changedPage.stream()
+                .map(todo -> {
+                    TodoDTO dto = convertToDTO(todo);
+                    dto.setCategoryId(todo.getCategory().getId());  // 프록시의 ID 만 사용하므로 카테고리 조회 없음
+                    return dto;
+                })
+                .collect(Collectors.toList());
+        List<Integer> deletedIds = deletedPage.stream()
+                .map(TodoTombstone::getTodoId)
                 .collect(Collectors.toList());
+
+        // 끝까지 읽은 쪽은 until 까지 모두 확인한 것이므로 커서를 until 로 옮김
+        LocalDateTime nextUpdatedAt = cursor.updatedAt();
+        int nextTodoId = cursor.todoId();
+        if (moreChanged) {
+            Todo last = changedPage.get(pageSize - 1);
+            nextUpdatedAt = last.getUpdatedAt();
+            nextTodoId = last.getId();
+        } else if (!cursor.updatedAt().isAfter(until)) {
+            nextUpdatedAt = until;
+            nextTodoId = Integer.MAX_VALUE;
+        }
+        LocalDateTime nextDeletedAt = cursor.deletedAt();
+        int nextTombstoneId = cursor.tombstoneId();
+        if (moreDeleted) {
+            TodoTombstone last = deletedPage.get(pageSize - 1);
+            nextDeletedAt = last.getDeletedAt();
+            nextTombstoneId = last.getId();
+        } else if (!cursor.deletedAt().isAfter(until)) {
+            nextDeletedAt = until;
+            nextTombstoneId = Integer.MAX_VALUE;
+        }
+        ChangeCursor next = new ChangeCursor(nextUpdatedAt, nextTodoId, nextDeletedAt, nextTombstoneId);
+        return new TodoChangesDTO(todoDTOs, deletedIds, encodeChangeCursor(next), moreChanged || moreDeleted);
+    }
+
+    // 변경 사항 커서 : 마지막으로 읽은 할 일의 (updatedAt, id) 와 삭제 기록의 (deletedAt, id)
+    private record ChangeCursor(LocalDateTime updatedAt, int todoId, LocalDateTime deletedAt, int tombstoneId) {}
+
+    private String encodeChangeCursor(ChangeCursor cursor) {
+        String raw = cursor.updatedAt() + "," + cursor.todoId() + "," + cursor.deletedAt() + "," + cursor.tombstoneId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ChangeCursor decodeChangeCursor(String since) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(since), StandardCharsets.UTF_8);
+            String[] parts = raw.split(",");
+            return new ChangeCursor(LocalDateTime.parse(parts[0]), Integer.parseInt(parts[1]),
+                    LocalDateTime.parse(parts[2]), Integer.parseInt(parts[3]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + since);
+        }
     }
 
     // 카테고리별 할 일 일괄 업데이트
+    @Transactional
     public TodoDTO updateTodoByCategory(int categoryId, TodoDTO updatedTodo) {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + categoryId));
 
-        // 카테고리 ID에 속하는 기존의 할 일 목록(existingTodo)을 데이터베이스에서 가져옴
-        Todo existingTodo = todoRepository.findByCategoryIdAndId(categoryId, updatedTodo.getId())
+        // 카테고리 ID에 속하는 기존의 할 일 목록(existingTodo)을 가져옴
+        // ID 조회이므로 2차 캐시에 있으면 DB 를 거치지 않음 (태그도 컬렉션 캐시에서 읽음, 카테고리는 프록시의 ID 만 비교)
+        Todo existingTodo = todoRepository.findById(updatedTodo.getId())
+                .filter(todo -> todo.getCategory().getId() == categoryId)
                 .orElseThrow(() -> new RuntimeException("해당 할 일을 찾을 수 없습니다: " + updatedTodo.getId()));
 
+        TodoDTO before = snapshot(existingTodo);
+
         // existingTodo : 데이터베이스에서 가져온 기존 할 일 목록
         // existingTodo 객체를 통해 업데이트 된 변경 사항은 existingTodos 에도 반영됨
         existingTodo.setTitle(updatedTodo.getTitle());
         existingTodo.setCompleted(updatedTodo.getCompleted());
         existingTodo.setDueDate(updatedTodo.getDueDate());
         existingTodo.setPriority(updatedTodo.getPriority());
-        existingTodo.setPosition(updatedTodo.getPosition());
+        if (updatedTodo.getPosition() != null) {
+            existingTodo.setPosition(updatedTodo.getPosition());  // position 이 없으면 기존 순서 유지
+        }
         existingTodo.setTags(updatedTodo.getTags());
 
         Todo savedTodo = todoRepository.save(existingTodo);
+        publishChange(TodoChangedEvent.Type.UPDATED, savedTodo, before, snapshot(savedTodo));
         return convertToDTO(savedTodo);
     }
 
-    // 우선순위 업데이트 메소드
+    // 우선순위 업데이트 메소드 (정렬된 전체 ID 목록을 받는 방식)
+    // 이미 순서가 맞는 할 일의 position 은 유지하고, 순서가 바뀐 할 일만 수정 (변경된 행만 UPDATE)
+    @Transactional
     public List<TodoDTO> updateTodoPositions(List<Integer> orderedTodoIds) {
-        List<Todo> todos = todoRepository.findAllById(orderedTodoIds);
+        // 태그까지 한 번에 조회하고, ID 로 바로 찾을 수 있도록 Map 으로 변환
+        Map<Integer, Todo> todosById = todoRepository.findWithTagsByIdIn(orderedTodoIds)
+                .stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
 
-        for (int i = 0; i < orderedTodoIds.size(); i++) {
-            int todoId = orderedTodoIds.get(i);
-            Todo todo = todos.stream()
-                    .filter(t -> t.getId() == todoId)
-                    .findFirst()
-                    .orElseThrow(() -> new RuntimeException("할 일의 해당 ID를 찾을 수 없습니다 : " + todoId));
-            todo.setPosition(i + 1);  // 순서대로 position 설정 (1, 2, 3, ...)
+        List<Todo> todos = new ArrayList<>(orderedTodoIds.size());
+        for (int todoId : orderedTodoIds) {
+            Todo todo = todosById.get(todoId);
+            if (todo == null) {
+                throw new RuntimeException("할 일의 해당 ID를 찾을 수 없습니다 : " + todoId);
+            }
+            todos.add(todo);
         }
-        return todoRepository.saveAll(todos)
-                .stream()
+
+        Integer[] currentPositions = todos.stream().map(Todo::getPosition).toArray(Integer[]::new);
+        int[] newPositions = TodoPositions.reorder(currentPositions);
+        for (int i = 0; i < todos.size(); i++) {
+            if (!Integer.valueOf(newPositions[i]).equals(currentPositions[i])) {
+                Todo todo = todos.get(i);
+                TodoDTO before = snapshot(todo);
+                todo.setPosition(newPositions[i]);  // 값이 바뀐 할 일만 dirty checking 으로 UPDATE
+                publishChange(TodoChangedEvent.Type.MOVED, todo, before, snapshot(todo));
+            }
+        }
+        return todos.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    // 할 일 이동 : id 할 일을 afterId 할 일 바로 뒤로 이동 (afterId 가 null 이면 맨 앞으로)
+    // 앞뒤 할 일 사이의 빈 position 을 사용하므로 보통은 이동한 할 일 한 행만 수정
+    // 빈 position 이 없을 때만 카테고리 전체를 다시 번호 매김
+    @Transactional
+    public TodoDTO moveTodo(int id, Integer afterId) {
+        int userId = SecurityUtils.getCurrentUserId();
+        Todo todo = todoRepository.findWithTagsByIdAndUserId(id, userId)
+                .orElseThrow(() -> new RuntimeException("할일의 ID " + id + "을(를) 찾을 수 없습니다"));
+        int categoryId = todo.getCategory().getId();
+        TodoDTO before = snapshot(todo);
+
+        Integer newPosition = findPositionAfter(userId, categoryId, todo, afterId);
+        if (newPosition == null) {
+            renumberPositions(userId, categoryId);
+            newPosition = findPositionAfter(userId, categoryId, todo, afterId);
+        }
+        todo.setPosition(newPosition);
+        publishChange(TodoChangedEvent.Type.MOVED, todo, before, snapshot(todo));
+        return convertToDTO(todo);
+    }
+
+    // afterId 할 일과 그 다음 할 일 사이의 빈 position 계산. 빈 값이 없으면 null
+    private Integer findPositionAfter(int userId, int categoryId, Todo todo, Integer afterId) {
+        Integer lower = null;
+        int afterPosition = Integer.MIN_VALUE;
+        int afterKey = Integer.MIN_VALUE;
+        if (afterId != null) {
+            if (afterId == todo.getId()) {
+                throw new IllegalArgumentException("자기 자신의 뒤로 이동할 수 없습니다: " + afterId);
+            }
+            Todo after = todoRepository.findByIdAndUserId(afterId, userId)
+                    .orElseThrow(() -> new RuntimeException("할일의 ID " + afterId + "을(를) 찾을 수 없습니다"));
+            if (after.getCategory().getId() != categoryId) {
+                throw new IllegalArgumentException("같은 카테고리의 할 일 뒤로만 이동할 수 있습니다: " + afterId);
+            }
+            if (after.getPosition() == null) {
+                return null;  // 순서가 없는 할 일이 있으면 다시 번호 매김
+            }
+            lower = after.getPosition();
+            afterPosition = lower;
+            afterKey = afterId;
+        }
+        List<Integer> next = todoRepository.findNextPositions(userId, categoryId, todo.getId(), afterPosition, afterKey, Limit.of(1));
+        Integer upper = next.isEmpty() ? null : next.get(0);
+        return TodoPositions.between(lower, upper);
+    }
+
+    // 카테고리 내 할 일의 position 을 GAP 간격으로 다시 번호 매김 (빈 position 이 없을 때만 실행)
+    private void renumberPositions(int userId, int categoryId) {
+        List<Todo> todos = todoRepository.findByUserIdAndCategoryIdOrderByPositionAscIdAsc(userId, categoryId);
+        for (int i = 0; i < todos.size(); i++) {
+            todos.get(i).setPosition(TodoPositions.renumbered(i));
+        }
+        todoRepository.flush();
+    }
+
     // 개별 할 일 삭제 메서드
+    // 삭제 이력에 마지막 상태를 남기기 위해 엔티티를 조회한 뒤 삭제
+    @Transactional
     public void deleteTodoById(int id) {
-        if (todoRepository.existsById(id)) {
-            todoRepository.deleteById(id);
-        } else {
-            throw new RuntimeException("할일의 ID " + id + "을(를) 찾을 수 없습니다");
-        }
+        Todo todo = todoRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("할일의 ID " + id + "을(를) 찾을 수 없습니다"));
+        TodoDTO before = snapshot(todo);
+        todoRepository.delete(todo);
+        // 변경 사항 조회에서 삭제를 알려주기 위해 같은 트랜잭션에서 삭제 기록 저장
+        todoTombstoneRepository.save(new TodoTombstone(todo.getId(), todo.getUser().getId(), todo.getCategory().getId()));
+        publishChange(TodoChangedEvent.Type.DELETED, todo, before, null);
     }
 }
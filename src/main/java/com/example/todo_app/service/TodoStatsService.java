@@ -0,0 +1,147 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.dto.TodoStatsDTO;
+import com.example.todo_app.event.TodoChangedEvent;
+import com.example.todo_app.event.TodosBulkChangedEvent;
+import com.example.todo_app.repository.CategoryCountRow;
+import com.example.todo_app.repository.CategoryOverdueRow;
+import com.example.todo_app.repository.TodoRepository;
+import com.example.todo_app.security.SecurityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+// 카테고리별 할 일 통계 (전체, 완료, 기한 초과, 우선순위별)
+// 사용자가 처음 조회할 때 DB 에서 한 번 읽어 카운터를 만들고, 이후에는 할 일 변경 이벤트로 증분 갱신
+// 조회는 메모리 카운터만 읽으므로 할 일 수와 관계없이 카테고리 수에만 비례
+// verify 를 요청하면 GROUP BY 집계 쿼리 결과와 비교하고, 다르면 카운터를 버려서 다음 조회 때 다시 만듦
+@Service
+public class TodoStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoStatsService.class);
+
+    private final TodoRepository todoRepository;
+    private final UserStateCache<UserTodoStats> stats;
+    private final Counter verifiedCounter;
+    private final Counter driftCounter;
+
+    public TodoStatsService(TodoRepository todoRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${todo.stats.max-users:10000}") int maxUsers) {
+        this.todoRepository = todoRepository;
+        this.stats = new UserStateCache<>(maxUsers, this::load, TodoStatsService::apply);
+        this.verifiedCounter = Counter.builder("todo.stats.verifications").tag("result", "match").register(meterRegistry);
+        this.driftCounter = Counter.builder("todo.stats.verifications").tag("result", "drift").register(meterRegistry);
+    }
+
+    // 현재 사용자의 카테고리별 통계
+    public List<TodoStatsDTO> getStats() {
+        return stats.get(SecurityUtils.getCurrentUserId()).snapshot(LocalDateTime.now());
+    }
+
+    // 메모리 카운터를 GROUP BY 집계 결과와 비교한 뒤 DB 기준 통계를 반환
+    // 다르면 카운터를 버림 (진행 중인 변경 때문에 잠깐 다를 수도 있으므로 다음 조회 때 다시 만들기만 함)
+    // 카운터는 기본 DB 의 커밋으로 갱신되므로, 비교할 집계도 기본 DB 에서 읽어야 함
+    // readOnly 로 두면 복제본으로 라우팅되어 정상적인 복제 지연까지 불일치(drift)로 기록되므로 readOnly 가 아닌 트랜잭션으로 실행
+    @Transactional
+    public List<TodoStatsDTO> verifyStats() {
+        int userId = SecurityUtils.getCurrentUserId();
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoStatsDTO> cached = stats.get(userId).snapshot(now);
+        List<TodoStatsDTO> counted = countFromDatabase(userId, now);
+        if (sameStats(cached, counted)) {
+            verifiedCounter.increment();
+        } else {
+            driftCounter.increment();
+            logger.warn("할 일 통계 불일치: 사용자 {}, 메모리 {}, DB {}", userId, cached, counted);
+            stats.evict(userId);
+        }
+        return counted;
+    }
+
+    // 커밋된 변경만 카운터에 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        stats.apply(event);
+    }
+
+    // 일괄 변경은 할 일마다의 변경 내용이 없으므로 카운터를 버리고 다음 조회 때 다시 만듦
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodosBulkChanged(TodosBulkChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    // 사용자의 카운터를 버림 (일괄 변경처럼 개별 이벤트가 없는 경우 다음 조회 때 다시 만듦)
+    public void evict(int userId) {
+        stats.evict(userId);
+    }
+
+    private UserTodoStats load(int userId) {
+        UserTodoStats userStats = new UserTodoStats(LocalDateTime.now());
+        for (Object[] row : todoRepository.findStatsRowsByUserId(userId)) {
+            userStats.upsert((Integer) row[0], new UserTodoStats.Contribution(
+                    (Integer) row[1], (Boolean) row[2], (Integer) row[3], (LocalDateTime) row[4]));
+        }
+        logger.debug("할 일 통계 생성: 사용자 {}, 할 일 {}개", userId, userStats.size());
+        return userStats;
+    }
+
+    private static void apply(UserTodoStats userStats, TodoChangedEvent event) {
+        if (event.getType() == TodoChangedEvent.Type.DELETED) {
+            userStats.remove(event.getTodoId());
+        } else {
+            TodoDTO after = event.getAfter();
+            userStats.upsert(event.getTodoId(), new UserTodoStats.Contribution(
+                    event.getCategoryId(), after.getCompleted(), after.getPriority(), after.getDueDate()));
+        }
+    }
+
+    // GROUP BY 집계 쿼리 두 번으로 통계 계산 (카테고리 ID 순)
+    private List<TodoStatsDTO> countFromDatabase(int userId, LocalDateTime now) {
+        Map<Integer, TodoStatsDTO> byCategory = new TreeMap<>();
+        for (CategoryCountRow row : todoRepository.countByCategory(userId)) {
+            TodoStatsDTO dto = byCategory.computeIfAbsent(row.getCategoryId(),
+                    id -> new TodoStatsDTO(id, 0, 0, 0, new TreeMap<>()));
+            dto.setTotal(dto.getTotal() + row.getCount());
+            if (row.getCompleted()) {
+                dto.setCompleted(dto.getCompleted() + row.getCount());
+            }
+            dto.getByPriority().merge(row.getPriority(), row.getCount(), Long::sum);
+        }
+        for (CategoryOverdueRow row : todoRepository.countOverdueByCategory(userId, now)) {
+            TodoStatsDTO dto = byCategory.get(row.getCategoryId());
+            if (dto != null) {
+                dto.setOverdue(row.getCount());
+            }
+        }
+        return new ArrayList<>(byCategory.values());
+    }
+
+    private static boolean sameStats(List<TodoStatsDTO> a, List<TodoStatsDTO> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            TodoStatsDTO x = a.get(i);
+            TodoStatsDTO y = b.get(i);
+            if (x.getCategoryId() != y.getCategoryId() || x.getTotal() != y.getTotal() || x.getCompleted() != y.getCompleted()
+                    || x.getOverdue() != y.getOverdue() || !Objects.equals(x.getByPriority(), y.getByPriority())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.event.TodoChangedEvent;
+import com.example.todo_app.event.TodosBulkChangedEvent;
+import com.example.todo_app.repository.TodoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.Collection;
+import java.util.List;
+
+// 사용자별 태그 역색인(UserTagIndex) 관리
+// 사용자가 처음 태그로 검색할 때 DB 에서 한 번 읽어서 만들고, 이후에는 할 일 변경 이벤트로 증분 갱신
+// 메모리 사용량을 제한하기 위해 최근에 검색한 max-users 명의 색인만 유지 (LRU)
+@Component
+public class TodoTagIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoTagIndex.class);
+
+    private final TodoRepository todoRepository;
+    private final UserStateCache<UserTagIndex> indexes;
+
+    public TodoTagIndex(TodoRepository todoRepository,
+                        @Value("${todo.tag-index.max-users:1000}") int maxUsers) {
+        this.todoRepository = todoRepository;
+        this.indexes = new UserStateCache<>(maxUsers, this::load, TodoTagIndex::apply);
+    }
+
+    // 태그 조건을 만족하는 사용자의 할 일 ID (오름차순)
+    public int[] search(int userId, Collection<String> tags, boolean matchAll, Integer categoryId, Boolean completed) {
+        return indexes.get(userId).search(tags, matchAll, categoryId, completed);
+    }
+
+    // 커밋된 변경만 색인에 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        indexes.apply(event);
+    }
+
+    // 일괄 변경은 할 일마다의 변경 내용이 없으므로 색인을 버리고 다음 검색 때 다시 만듦
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodosBulkChanged(TodosBulkChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    // 사용자의 색인을 버림 (일괄 변경처럼 개별 이벤트가 없는 경우 다음 검색 때 다시 만듦)
+    public void evict(int userId) {
+        indexes.evict(userId);
+    }
+
+    private UserTagIndex load(int userId) {
+        long start = System.nanoTime();
+        UserTagIndex index = new UserTagIndex();
+        for (Object[] row : todoRepository.findTagIndexRowsByUserId(userId)) {
+            index.upsert((Integer) row[0], (Integer) row[1], (Boolean) row[2], List.of());
+        }
+        for (Object[] row : todoRepository.findTagPairsByUserId(userId)) {
+            index.addTag((Integer) row[0], (String) row[1]);
+        }
+        logger.debug("태그 색인 생성: 사용자 {}, 할 일 {}개, {}ms", userId, index.size(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    // upsert/remove 는 같은 변경을 두 번 적용해도 결과가 같음
+    private static void apply(UserTagIndex index, TodoChangedEvent event) {
+        if (event.getType() == TodoChangedEvent.Type.DELETED) {
+            index.remove(event.getTodoId());
+        } else {
+            TodoDTO after = event.getAfter();
+            index.upsert(event.getTodoId(), event.getCategoryId(), after.getCompleted(), after.getTags());
+        }
+    }
+}
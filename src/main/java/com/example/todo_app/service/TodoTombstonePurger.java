@@ -0,0 +1,33 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.repository.TodoTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+
+// 보존 기간이 지난 삭제 기록(todo_tombstones)을 주기적으로 정리
+@Component
+public class TodoTombstonePurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoTombstonePurger.class);
+
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final int retentionDays;
+
+    public TodoTombstonePurger(TodoTombstoneRepository todoTombstoneRepository,
+                               @Value("${todo.changes.tombstone-retention-days:30}") int retentionDays) {
+        this.todoTombstoneRepository = todoTombstoneRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.changes.purge-interval-ms:3600000}")
+    public void purge() {
+        int deleted = todoTombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            logger.info("보존 기간이 지난 삭제 기록 {}건 정리", deleted);
+        }
+    }
+}
@@ -2,10 +2,19 @@ package com.example.todo_app.service;
 
 import com.example.todo_app.dto.TodoDTO;
 import com.example.todo_app.dto.UserDTO;
+import com.example.todo_app.model.Todo;
 import com.example.todo_app.model.User;
+import com.example.todo_app.repository.TodoRepository;
+import com.example.todo_app.repository.UserCredentials;
 import com.example.todo_app.repository.UserRepository;
 import com.example.todo_app.security.JWTProvider;
-import jakarta.transaction.Transactional;
+import com.example.todo_app.security.PasswordHashingExecutor;
+import com.example.todo_app.security.PasswordHashingRejectedException;
+import com.example.todo_app.security.SecurityUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,26 +22,45 @@ import org.springframework.security.authentication.InsufficientAuthenticationExc
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service  // 이 클래스가 Spring 의 서비스 계층으로 동작하도록 지정
+@Timed(value = "user.service", histogram = true)  // 모든 public 메서드의 실행 시간 기록 (class, method 태그)
 public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
+    // NDJSON 스트리밍 시 한 번에 태그를 조회하고 내보내는 할 일 개수
+    private static final int STREAM_CHUNK_SIZE = 200;
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final TodoRepository todoRepository;
+    private final PasswordHashingExecutor passwordHashing;
     private final JWTProvider jwtProvider;
+    private final EntityManager entityManager;
+    private final ObjectWriter ndjsonWriter;
 
-    @Autowired  // 생성자 주입으로 UserRepository, PasswordEncoder 를 주입
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JWTProvider jwtProvider) {
+    @Autowired  // 생성자 주입으로 UserRepository, PasswordHashingExecutor 를 주입
+    public UserService(UserRepository userRepository, TodoRepository todoRepository, PasswordHashingExecutor passwordHashing,
+                       JWTProvider jwtProvider, EntityManager entityManager, ObjectMapper objectMapper) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.todoRepository = todoRepository;
+        this.passwordHashing = passwordHashing;
         this.jwtProvider = jwtProvider;
+        this.entityManager = entityManager;
+        this.ndjsonWriter = objectMapper.writer();
     }
 
     // 회원가입 메서드 -> 사용자 이름 중복 검사 및 비밀번호 암호화 후 저장
@@ -45,7 +73,7 @@ public class UserService {
         // 새로운 사용자 생성 및 저장
         User newUser = new User();
         newUser.setUsername(username);
-        newUser.setPassword(passwordEncoder.encode(password)); // 비밀번호 암호화
+        newUser.setPassword(passwordHashing.encode(password)); // 비밀번호 암호화 (전용 스레드 풀에서 실행)
         userRepository.save(newUser);
         logger.info("회원가입 성공: 사용자 {}", username);
     }
@@ -59,9 +87,10 @@ public class UserService {
            User user = userOptional.get();
            logger.info("사용자 찾음: {}", username);
 
-           // 비밀번호 비교
-           if (passwordEncoder.matches(password, user.getPassword())) {
+           // 비밀번호 비교 (전용 스레드 풀에서 실행)
+           if (passwordHashing.matches(password, user.getPassword())) {
                logger.info("비밀번호 일치: {}", username);
+               upgradePasswordIfNeeded(user, password);
 
                // JWT 토큰 생성
                String jwtToken = jwtProvider.generateToken(user.getId());
@@ -78,8 +107,23 @@ public class UserService {
         return Optional.empty();  // 로그인 실패 시 빈 Optional 반환
     }
 
+    // 저장된 해시의 cost 가 현재 설정보다 낮으면 로그인에 성공한 비밀번호로 다시 암호화해서 저장
+    // 업그레이드는 부가 작업이므로 해시 실행기가 바쁘면 건너뛰고 다음 로그인 때 다시 시도
+    private void upgradePasswordIfNeeded(User user, String rawPassword) {
+        if (!passwordHashing.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordHashing.encode(rawPassword));
+            userRepository.save(user);
+            logger.info("비밀번호 해시 업그레이드 완료: 사용자 {}", user.getUsername());
+        } catch (PasswordHashingRejectedException e) {
+            logger.info("비밀번호 해시 업그레이드를 다음 로그인으로 미룹니다: 사용자 {}", user.getUsername());
+        }
+    }
+
     // 현재 로그인한 사용자 정보 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDTO getCurrentUser() {
         // SecurityContext 이용해 현재 로그인된 사용자 정보 가져오기
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -89,10 +133,12 @@ public class UserService {
             throw new InsufficientAuthenticationException("인증되지 않은 사용자입니다.");
         }
 
+        // 사용자 id, username 은 인증 정보(CustomUserDetails)에 이미 있으므로 User 엔티티를 다시 조회하지 않음
+        int userId = SecurityUtils.getCurrentUserId();
         String username = authentication.getName(); // 현재 로그인한 사용자의 username
-        User user = userRepository.findByUsernameWithTodos(username)
-                .orElseThrow(() -> new IllegalStateException("현재 사용자를 찾을 수 없습니다."));
-        return convertToDTO(user); // User 엔티티를 DTO 로 변환하여 반환
+        // 할 일은 프로젝션으로, 태그는 [todoId, tag] 쌍으로 한 번에 조회 (엔티티 생성/변경 감지 없음, N+1 없음)
+        List<TodoDTO> todoDTOs = TodoRows.toDTOs(todoRepository.findRowsByUserId(userId), todoRepository.findTagPairsByUserId(userId));
+        return new UserDTO(userId, username, todoDTOs);
     }
 
     // User 엔티티를 UserDTO 로 변환
@@ -117,4 +163,65 @@ public class UserService {
                 .collect(Collectors.toList());
         return new UserDTO(user.getId(), user.getUsername(), todoDTOs);
     }
+
+    // 현재 로그인한 사용자 정보를 NDJSON 으로 스트리밍
+    // 첫 줄은 사용자 정보({"id", "username"}), 이후 한 줄에 할 일 하나씩 기록
+    // 할 일을 DB 커서로 조금씩 읽어서 바로 내보내므로, 할 일 개수와 관계없이 메모리 사용량이 일정함
+    @Transactional(readOnly = true)
+    public void streamCurrentUser(int userId, OutputStream out) throws IOException {
+        UserCredentials user = userRepository.findCredentialsById(userId)
+                .orElseThrow(() -> new IllegalStateException("현재 사용자를 찾을 수 없습니다."));
+        writeLine(out, new UserDTO(user.getId(), user.getUsername(), null));
+        out.flush();  // 첫 바이트를 바로 전송
+
+        try (Stream<Todo> todos = todoRepository.streamByUserId(userId)) {
+            Iterator<Todo> iterator = todos.iterator();
+            List<Todo> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE || !iterator.hasNext()) {
+                    writeChunk(out, chunk);
+                    chunk.clear();
+                    out.flush();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // 할 일 묶음의 태그를 한 번에 조회해서 한 줄씩 기록한 뒤, 영속성 컨텍스트에서 분리해 메모리를 돌려줌
+    private void writeChunk(OutputStream out, List<Todo> chunk) {
+        Map<Integer, List<String>> tagsByTodoId = new HashMap<>();
+        List<Integer> ids = chunk.stream().map(Todo::getId).collect(Collectors.toList());
+        for (Object[] pair : todoRepository.findTagPairsByTodoIdIn(ids)) {
+            tagsByTodoId.computeIfAbsent((Integer) pair[0], id -> new ArrayList<>()).add((String) pair[1]);
+        }
+
+        for (Todo todo : chunk) {
+            TodoDTO todoDTO = new TodoDTO(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getCompleted(),
+                    todo.getDueDate(),
+                    todo.getPriority(),
+                    todo.getPosition(),
+                    tagsByTodoId.getOrDefault(todo.getId(), new ArrayList<>()),
+                    todo.getCreatedAt(),
+                    todo.getUpdatedAt(),
+                    todo.getUser().getId()
+            );
+            try {
+                writeLine(out, todoDTO);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            entityManager.detach(todo);
+        }
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(ndjsonWriter.writeValueAsBytes(value));
+        out.write('\n');
+    }
 }
@@ -0,0 +1,93 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.event.TodoChangedEvent;
+import com.example.todo_app.utils.LruCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+// 사용자별로 DB 에서 한 번 읽어 만든 뒤 할 일 변경 이벤트로 증분 갱신하는 메모리 상태 (태그 색인, 통계 카운터)
+// - 처음 조회할 때 loader 로 만들고, 최근 조회한 maxUsers 명까지만 유지 (LRU)
+// - 상태를 만드는 동안 커밋된 변경은 pending 에 모아 두었다가 로딩이 끝나면 순서대로 적용
+//   (DB 를 읽기 전에 먼저 등록하므로, 읽은 결과에 이미 반영된 변경이 다시 적용될 수 있음 -> applier 는 같은 변경을 두 번 적용해도 결과가 같아야 함)
+final class UserStateCache<S> {
+
+    private final LruCache<Integer, Entry<S>> entries;
+    private final IntFunction<S> loader;
+    private final BiConsumer<S, TodoChangedEvent> applier;
+
+    private static final class Entry<S> {
+        private final CompletableFuture<S> loaded = new CompletableFuture<>();
+        private S state;
+        private List<TodoChangedEvent> pending = new ArrayList<>();
+    }
+
+    UserStateCache(int maxUsers, IntFunction<S> loader, BiConsumer<S, TodoChangedEvent> applier) {
+        this.entries = new LruCache<>(maxUsers);
+        this.loader = loader;
+        this.applier = applier;
+    }
+
+    // 사용자의 상태 반환 (없으면 DB 에서 만들고, 다른 스레드가 만드는 중이면 기다림)
+    S get(int userId) {
+        Entry<S> entry = entries.get(userId);
+        if (entry == null) {
+            Entry<S> created = new Entry<>();
+            entry = entries.putIfAbsent(userId, created);
+            if (entry == null) {
+                entry = created;
+                load(userId, created);
+            }
+        }
+        try {
+            return entry.loaded.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("사용자 상태를 기다리는 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("사용자 상태를 만들 수 없습니다.", e.getCause());
+        }
+    }
+
+    // 상태가 있는 사용자에게만 변경을 적용. 없는 사용자는 다음 조회 때 DB 에서 새로 만듦
+    void apply(TodoChangedEvent event) {
+        Entry<S> entry = entries.get(event.getUserId());
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (entry.pending != null) {
+                entry.pending.add(event);
+                return;
+            }
+        }
+        applier.accept(entry.state, event);
+    }
+
+    // 사용자의 상태를 버림 -> 다음 조회 때 DB 에서 다시 만듦 (일괄 변경, 검증 실패 시)
+    void evict(int userId) {
+        entries.remove(userId);
+    }
+
+    private void load(int userId, Entry<S> entry) {
+        S state;
+        try {
+            state = loader.apply(userId);
+        } catch (RuntimeException e) {
+            entries.remove(userId);  // 다음 조회 때 다시 시도
+            entry.loaded.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (entry) {
+            for (TodoChangedEvent event : entry.pending) {
+                applier.accept(state, event);
+            }
+            entry.pending = null;
+            entry.state = state;
+        }
+        entry.loaded.complete(state);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.todo_app.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 사용자 한 명의 태그 -> 할 일 비트맵 역색인
+// 할 일마다 0부터 시작하는 slot 번호를 부여하고, 태그/카테고리/완료 여부별로 slot 비트맵(BitSet)을 유지
+// AND/OR 검색은 비트맵의 and/or 연산으로 처리하므로 할 일 수와 관계없이 빠름
+// 삭제된 할 일의 slot 은 재사용. 모든 메서드는 메모리 작업만 하므로 짧은 synchronized 로 보호
+final class UserTagIndex {
+
+    private final Map<Integer, Integer> slotById = new HashMap<>();
+    private int[] idBySlot = new int[64];
+    private int[] categoryBySlot = new int[64];
+    private final List<List<String>> tagsBySlot = new ArrayList<>();
+    private final BitSet completed = new BitSet();
+    private final Map<Integer, BitSet> byCategory = new HashMap<>();
+    private final Map<String, BitSet> byTag = new HashMap<>();
+    private final BitSet freeSlots = new BitSet();
+
+    // 할 일 추가 또는 수정 (같은 ID 가 있으면 기존 값을 지우고 다시 등록)
+    synchronized void upsert(int todoId, int categoryId, boolean isCompleted, Collection<String> tags) {
+        Integer existing = slotById.get(todoId);
+        int slot = (existing != null) ? existing : allocate(todoId);
+        if (existing != null) {
+            clearSlot(slot);
+        }
+        completed.set(slot, isCompleted);
+        categoryBySlot[slot] = categoryId;
+        byCategory.computeIfAbsent(categoryId, k -> new BitSet()).set(slot);
+        List<String> copied = (tags == null) ? List.of() : List.copyOf(tags);
+        tagsBySlot.set(slot, copied);
+        for (String tag : copied) {
+            byTag.computeIfAbsent(tag, k -> new BitSet()).set(slot);
+        }
+    }
+
+    // 할 일의 태그 하나 추가 (처음 색인을 만들 때 [todoId, tag] 쌍을 그대로 추가)
+    synchronized void addTag(int todoId, String tag) {
+        Integer slot = slotById.get(todoId);
+        if (slot == null) {
+            return;
+        }
+        List<String> tags = new ArrayList<>(tagsBySlot.get(slot));
+        tags.add(tag);
+        tagsBySlot.set(slot, tags);
+        byTag.computeIfAbsent(tag, k -> new BitSet()).set(slot);
+    }
+
+    synchronized void remove(int todoId) {
+        Integer slot = slotById.remove(todoId);
+        if (slot != null) {
+            clearSlot(slot);
+            freeSlots.set(slot);
+        }
+    }
+
+    // 태그 조건과 카테고리/완료 여부 조건을 모두 만족하는 할 일 ID 를 오름차순으로 반환
+    // matchAll = true 이면 모든 태그(AND), false 이면 하나 이상의 태그(OR)
+    synchronized int[] search(Collection<String> tags, boolean matchAll, Integer categoryId, Boolean isCompleted) {
+        BitSet result = null;
+        for (String tag : tags) {
+            BitSet slots = byTag.get(tag);
+            if (slots == null) {
+                if (matchAll) {
+                    return new int[0];  // 없는 태그가 하나라도 있으면 AND 결과는 비어 있음
+                }
+                continue;
+            }
+            if (result == null) {
+                result = (BitSet) slots.clone();
+            } else if (matchAll) {
+                result.and(slots);
+            } else {
+                result.or(slots);
+            }
+        }
+        if (result == null) {
+            return new int[0];
+        }
+        if (categoryId != null) {
+            BitSet category = byCategory.get(categoryId);
+            if (category == null) {
+                return new int[0];
+            }
+            result.and(category);
+        }
+        if (isCompleted != null) {
+            if (isCompleted) {
+                result.and(completed);
+            } else {
+                result.andNot(completed);
+            }
+        }
+
+        int[] ids = new int[result.cardinality()];
+        int i = 0;
+        for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+            ids[i++] = idBySlot[slot];
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    synchronized int size() {
+        return slotById.size();
+    }
+
+    private int allocate(int todoId) {
+        int slot = freeSlots.nextSetBit(0);
+        if (slot >= 0) {
+            freeSlots.clear(slot);
+        } else {
+            slot = tagsBySlot.size();
+            tagsBySlot.add(List.of());
+            if (slot == idBySlot.length) {
+                idBySlot = Arrays.copyOf(idBySlot, slot * 2);
+                categoryBySlot = Arrays.copyOf(categoryBySlot, slot * 2);
+            }
+        }
+        idBySlot[slot] = todoId;
+        slotById.put(todoId, slot);
+        return slot;
+    }
+
+    // slot 이 속한 모든 비트맵에서 제거 (빈 비트맵은 맵에서 삭제)
+    private void clearSlot(int slot) {
+        completed.clear(slot);
+        clearIn(byCategory, categoryBySlot[slot], slot);
+        for (String tag : tagsBySlot.get(slot)) {
+            clearIn(byTag, tag, slot);
+        }
+        tagsBySlot.set(slot, List.of());
+    }
+
+    private static <K> void clearIn(Map<K, BitSet> bitmaps, K key, int slot) {
+        BitSet bits = bitmaps.get(key);
+        if (bits != null) {
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+}
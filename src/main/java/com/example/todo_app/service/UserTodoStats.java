@@ -0,0 +1,105 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.TodoStatsDTO;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 사용자 한 명의 카테고리별 통계 카운터
+// 할 일마다 통계에 반영된 값(Contribution)을 기억해 두고, 변경 시 이전 값을 빼고 새 값을 더함
+// -> 같은 변경이 두 번 적용되어도 결과가 같고, 조회는 카테고리 수에만 비례
+// 기한 초과(overdue)는 시간이 지나면 바뀌므로, 미완료 할 일의 마감 기한을 정렬해 두고 조회 시점(watermark)까지 지난 만큼만 overdue 로 옮김
+final class UserTodoStats {
+
+    // 할 일 하나가 통계에 반영된 값
+    record Contribution(int categoryId, boolean completed, int priority, LocalDateTime dueDate) {}
+
+    private static final class CategoryCounters {
+        private long total;
+        private long completed;
+        private long overdue;  // dueDate < watermark 인 미완료 할 일 수
+        private final TreeMap<Integer, Long> byPriority = new TreeMap<>();
+        private final TreeMap<LocalDateTime, Long> upcoming = new TreeMap<>();  // dueDate >= watermark 인 미완료 할 일의 마감 기한별 개수
+
+        boolean isEmpty() {
+            return total == 0;
+        }
+    }
+
+    private final Map<Integer, Contribution> byTodo = new HashMap<>();
+    private final Map<Integer, CategoryCounters> byCategory = new HashMap<>();
+    private LocalDateTime watermark;
+
+    UserTodoStats(LocalDateTime now) {
+        this.watermark = now;
+    }
+
+    // 할 일 추가 또는 수정
+    synchronized void upsert(int todoId, Contribution contribution) {
+        Contribution previous = byTodo.put(todoId, contribution);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        apply(contribution, 1);
+    }
+
+    synchronized void remove(int todoId) {
+        Contribution previous = byTodo.remove(todoId);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+    }
+
+    // now 시점의 카테고리별 통계 (카테고리 ID 순)
+    synchronized List<TodoStatsDTO> snapshot(LocalDateTime now) {
+        advance(now);
+        List<TodoStatsDTO> stats = new ArrayList<>(byCategory.size());
+        new TreeMap<>(byCategory).forEach((categoryId, counters) -> stats.add(new TodoStatsDTO(
+                categoryId, counters.total, counters.completed, counters.overdue, new TreeMap<>(counters.byPriority))));
+        return stats;
+    }
+
+    synchronized int size() {
+        return byTodo.size();
+    }
+
+    // watermark 를 now 로 옮기면서 그 사이에 기한이 지난 할 일을 overdue 로 이동 (각 할 일은 한 번만 이동)
+    private void advance(LocalDateTime now) {
+        if (!now.isAfter(watermark)) {
+            return;
+        }
+        for (CategoryCounters counters : byCategory.values()) {
+            Map<LocalDateTime, Long> passed = counters.upcoming.headMap(now, false);
+            for (long count : passed.values()) {
+                counters.overdue += count;
+            }
+            passed.clear();
+        }
+        watermark = now;
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        CategoryCounters counters = byCategory.computeIfAbsent(contribution.categoryId(), k -> new CategoryCounters());
+        counters.total += sign;
+        if (contribution.completed()) {
+            counters.completed += sign;
+        } else if (contribution.dueDate() != null) {
+            if (contribution.dueDate().isBefore(watermark)) {
+                counters.overdue += sign;
+            } else {
+                merge(counters.upcoming, contribution.dueDate(), sign);
+            }
+        }
+        merge(counters.byPriority, contribution.priority(), sign);
+        if (counters.isEmpty()) {
+            byCategory.remove(contribution.categoryId());
+        }
+    }
+
+    private static <K> void merge(Map<K, Long> counts, K key, int sign) {
+        counts.merge(key, (long) sign, (a, b) -> (a + b == 0) ? null : a + b);  // 0 이 되면 제거
+    }
+}
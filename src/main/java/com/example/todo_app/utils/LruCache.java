@@ -0,0 +1,56 @@
+package com.example.todo_app.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 최대 크기가 정해진 LRU(Least Recently Used) 캐시
+// 용량을 넘으면 가장 오래 사용되지 않은 항목부터 제거되므로, 메모리 사용량이 maxSize 이상으로 늘어나지 않음
+// synchronized 구간 안에서는 I/O 없이 메모리 작업만 하므로 가상 스레드에서도 고정(pinning) 시간이 짧음
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, V> entries;
+
+    public LruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize 는 0보다 커야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        // accessOrder = true : 조회할 때마다 해당 항목이 가장 최근 항목으로 이동
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    // 키가 없을 때만 저장하고, 이미 있으면 기존 값을 반환 (없었으면 null)
+    public synchronized V putIfAbsent(K key, V value) {
+        return entries.putIfAbsent(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,57 @@
+-- 기본 테이블과 시퀀스
+-- 엔티티 매핑(model 패키지)과 같은 이름/타입으로 만들고, 시작 시 Hibernate 가 매핑과 일치하는지 검증 (ddl-auto=validate)
+
+CREATE TABLE categories (
+    id INTEGER PRIMARY KEY,
+    name VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE users (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+-- 할 일 ID 는 Hibernate 가 50개씩 미리 할당(pooled)받아 사용하므로 증가폭을 allocationSize 와 맞춤
+CREATE SEQUENCE todos_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE todos (
+    id INTEGER PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    completed BOOLEAN NOT NULL,
+    due_date TIMESTAMP(6),
+    priority INTEGER NOT NULL,
+    position INTEGER,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    user_id INTEGER NOT NULL,
+    category_id INTEGER NOT NULL,
+    CONSTRAINT fk_todos_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_todos_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE todo_tags (
+    todo_id INTEGER NOT NULL,
+    tag VARCHAR(255),
+    CONSTRAINT fk_todo_tags_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
+
+-- 삭제된 할 일의 기록도 남아야 하므로 todos 에 대한 외래 키 없음
+CREATE TABLE todo_history (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    todo_id INTEGER NOT NULL,
+    change_description VARCHAR(255) NOT NULL,
+    changed_at TIMESTAMP(6) NOT NULL
+);
+
+-- 일괄 삭제의 INSERT ... SELECT 도 NEXT VALUE FOR 로 같은 시퀀스를 사용
+CREATE SEQUENCE todo_tombstones_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE todo_tombstones (
+    id INTEGER PRIMARY KEY,
+    todo_id INTEGER NOT NULL,
+    user_id INTEGER NOT NULL,
+    category_id INTEGER NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL
+);
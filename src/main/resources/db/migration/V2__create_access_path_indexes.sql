@@ -0,0 +1,27 @@
+-- 조회 경로별 인덱스 (이름은 엔티티의 @Index 와 같음)
+-- 모든 목록 조회는 사용자 범위이므로 user_id 를 앞에 두고, 키셋 페이지의 정렬 순서(position, id 등)를 뒤에 붙여
+-- 정렬 없이 인덱스 순서대로 읽다가 limit 에서 멈출 수 있게 함
+-- QueryPlanTests 가 TodoRepository 의 모든 쿼리를 EXPLAIN 해서 테이블 전체 스캔이 없는지 검증
+
+-- 카테고리별 목록 키셋 페이지, 마지막 position, 다음 position 조회
+CREATE INDEX idx_todos_user_category_position ON todos (user_id, category_id, position, id);
+
+-- 카테고리 내 완료/미완료 목록 키셋 페이지, 완료된 할 일 일괄 삭제
+CREATE INDEX idx_todos_user_category_completed_position ON todos (user_id, category_id, completed, position, id);
+
+-- 변경 사항 조회 (updated_at, id 순서)
+CREATE INDEX idx_todos_user_updated_at ON todos (user_id, updated_at, id);
+
+-- 마감 알림 : 마감 기한 구간별 미완료 할 일 (사용자와 관계없이 전체)
+CREATE INDEX idx_todos_completed_due_date ON todos (completed, due_date, id);
+
+-- 태그로 할 일 찾기, 할 일의 태그 읽기/삭제
+CREATE INDEX idx_todo_tags_tag_todo ON todo_tags (tag, todo_id);
+CREATE INDEX idx_todo_tags_todo_id ON todo_tags (todo_id);
+
+-- 할 일별 변경 이력
+CREATE INDEX idx_todo_history_todo_id ON todo_history (todo_id, changed_at);
+
+-- 사용자별 삭제 기록 (deleted_at, id 순서), 보존 기간이 지난 기록 정리
+CREATE INDEX idx_todo_tombstones_user_deleted_at ON todo_tombstones (user_id, deleted_at, id);
+CREATE INDEX idx_todo_tombstones_deleted_at ON todo_tombstones (deleted_at);
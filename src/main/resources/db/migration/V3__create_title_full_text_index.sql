@@ -0,0 +1,5 @@
+-- H2 내장 전문 검색(org.h2.fulltext.FullText) 색인을 todos.title 에 생성
+-- FT_CREATE_INDEX 가 todos 에 트리거(FT_TODOS)를 만들어서, 이후 INSERT/UPDATE/DELETE 마다 단어 색인이 자동으로 갱신됨
+CREATE ALIAS IF NOT EXISTS FT_INIT FOR 'org.h2.fulltext.FullText.init';
+CALL FT_INIT();
+CALL FT_CREATE_INDEX('PUBLIC', 'TODOS', 'TITLE');
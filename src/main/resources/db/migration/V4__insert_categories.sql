@@ -1,3 +1,4 @@
+-- 기본 카테고리
 INSERT INTO categories (id, name) VALUES (1, '일');
 INSERT INTO categories (id, name) VALUES (2, '개인');
 INSERT INTO categories (id, name) VALUES (3, '쇼핑');
@@ -0,0 +1,8 @@
+-- 복제 지연 측정용 하트비트 (ReplicaLagMonitor)
+-- 기본 DB 의 행에 주기적으로 현재 시각을 쓰고, 복제본에 복제된 값과 비교해서 지연을 계산
+CREATE TABLE replication_heartbeat (
+    id INTEGER PRIMARY KEY,
+    beat_at TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP);
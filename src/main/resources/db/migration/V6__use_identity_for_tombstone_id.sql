@@ -0,0 +1,7 @@
+-- 삭제 기록 id 를 시퀀스(INCREMENT BY 50) 대신 IDENTITY 로 생성
+-- 일괄 삭제의 INSERT ... SELECT 가 행마다 NEXT VALUE FOR 를 호출하면 한 행에 id 50 개를 소모하므로, 행마다 1 씩 증가하는 IDENTITY 로 바꿈
+-- 기존 기록의 id 와 겹치지 않도록 현재 최댓값 다음부터 시작
+ALTER TABLE todo_tombstones ALTER COLUMN id SET GENERATED BY DEFAULT;
+ALTER TABLE todo_tombstones ALTER COLUMN id RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM todo_tombstones);
+
+DROP SEQUENCE todo_tombstones_seq;
@@ -1,4 +0,0 @@
-CREATE TABLE IF NOT EXISTS categories (
-    id INT PRIMARY KEY,
-    name VARCHAR(255) NOT NULL
-);
\ No newline at end of file
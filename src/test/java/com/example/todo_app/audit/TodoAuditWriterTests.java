@@ -0,0 +1,89 @@
+package com.example.todo_app.audit;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.event.TodoChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TodoAuditWriterTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    void flushWritesQueuedRecordsInBatches() {
+        TodoAuditWriter writer = new TodoAuditWriter(jdbcTemplate, transactionManager, new SimpleMeterRegistry(), 10, 2, 60_000, 0);
+        for (int i = 1; i <= 5; i++) {
+            writer.enqueue(i, "수정");
+        }
+
+        writer.flush();
+
+        // 5건을 2건씩 -> 배치 3번
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList(), anyInt(), any());
+    }
+
+    @Test
+    void fullQueueDropsRecords() {
+        TodoAuditWriter writer = new TodoAuditWriter(jdbcTemplate, transactionManager, new SimpleMeterRegistry(), 2, 10, 60_000, 0);
+        for (int i = 1; i <= 5; i++) {
+            writer.enqueue(i, "수정");
+        }
+
+        assertThat(writer.getDroppedCount()).isEqualTo(3);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+    }
+
+    @Test
+    void failedBatchIsRetriedRecordByRecord() {
+        TodoAuditWriter writer = new TodoAuditWriter(jdbcTemplate, transactionManager, new SimpleMeterRegistry(), 10, 10, 60_000, 0);
+        doThrow(new DataIntegrityViolationException("batch"))
+                .when(jdbcTemplate).batchUpdate(anyString(), anyList(), anyInt(), any());
+        doThrow(new DataIntegrityViolationException("row"))
+                .when(jdbcTemplate).update(anyString(), eq(2), any(), any());
+        for (int i = 1; i <= 3; i++) {
+            writer.enqueue(i, "수정");
+        }
+
+        writer.flush();
+
+        // 배치가 실패하면 롤백한 뒤 3건을 한 건씩 다시 기록하고, 실패한 2번만 버림
+        verify(transactionManager).rollback(any());
+        verify(jdbcTemplate, times(3)).update(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void longDescriptionIsTruncatedToColumnLength() {
+        String description = "수정: 제목 " + "가".repeat(300);
+
+        assertThat(TodoAuditWriter.truncate(description)).hasSize(TodoAuditWriter.MAX_DESCRIPTION_LENGTH).endsWith("...");
+        assertThat(TodoAuditWriter.truncate("수정")).isEqualTo("수정");
+    }
+
+    @Test
+    void describeListsChangedFields() {
+        TodoDTO before = new TodoDTO(1, "장보기", false, null, 1, 1024, List.of("home"), null, null, 1);
+        TodoDTO after = new TodoDTO(1, "장보기", true, null, 1, 1024, List.of("home"), null, null, 1);
+
+        String description = TodoAuditWriter.describe(
+                new TodoChangedEvent(TodoChangedEvent.Type.UPDATED, 1, 1, 1, before, after));
+
+        assertThat(description).isEqualTo("수정: 완료 false -> true");
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.todo_app.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// actuator 는 관리 포트에서만 인증 없이 열리고, 서비스 포트에서는 거부되는지 검증
+// 테스트에서는 메트릭 내보내기가 기본으로 꺼져 있으므로 @AutoConfigureObservability 로 /actuator/prometheus 를 켬
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=dG9kby1hcHAtdGVzdC1zZWNyZXQta2V5LTAxMjM0NTY3ODk=",
+        "management.server.port=0"
+})
+class ManagementPortSecurityTests {
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void managementPortServesMetricsWithoutAuthentication() {
+        assertThat(get(managementPort, "/actuator/health").getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(get(managementPort, "/actuator/prometheus").getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void serverPortDoesNotExposeActuator() {
+        assertThat(get(serverPort, "/actuator/prometheus").getStatusCode().is2xxSuccessful()).isFalse();
+        assertThat(get(serverPort, "/actuator/health").getStatusCode().is2xxSuccessful()).isFalse();
+    }
+
+    private ResponseEntity<String> get(int port, String path) {
+        return restTemplate.getForEntity("http://127.0.0.1:" + port + path, String.class);
+    }
+}
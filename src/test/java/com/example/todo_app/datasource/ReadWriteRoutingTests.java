@@ -0,0 +1,142 @@
+package com.example.todo_app.datasource;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.model.User;
+import com.example.todo_app.repository.TodoRepository;
+import com.example.todo_app.repository.UserRepository;
+import com.example.todo_app.security.CustomUserDetails;
+import com.example.todo_app.service.TodoService;
+import com.example.todo_app.service.TodoStatsService;
+import com.example.todo_app.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 읽기 복제본 라우팅 : H2 두 개(기본 DB, 복제본 대역)로 readOnly 서비스 읽기가 어느 DB 로 가는지 검증
+// 복제본 대역에는 복제가 없으므로, 같은 사용자와 복제본에만 있는 할 일("replica")을 직접 넣어서 읽은 DB 를 구분
+// 하트비트도 직접 써서 지연을 조절하고, 확인(probe)은 자동 주기 대신 테스트에서 호출
+@SpringBootTest(properties = {
+        "jwt.secret=dG9kby1hcHAtdGVzdC1zZWNyZXQta2V5LTAxMjM0NTY3ODk=",
+        "todo.datasource.replicas.urls=" + ReadWriteRoutingTests.REPLICA_URL,
+        "todo.datasource.replicas.migrate=true",
+        "todo.datasource.replicas.max-lag-ms=1000",
+        "todo.datasource.replicas.probe-interval-ms=3600000",
+        "todo.datasource.read-your-writes-ms=60000"
+})
+class ReadWriteRoutingTests {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final int CATEGORY_ID = 1;
+    private static final int REPLICA_TODO_ID = 1_000_000;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TodoStatsService todoStatsService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("routing-user", "password"));
+        create("primary");  // 인증 전이므로 read-your-writes 기록 없음
+
+        replica.update("INSERT INTO users (id, username, password) VALUES (?, ?, ?)", user.getId(), user.getUsername(), "password");
+        replica.update("INSERT INTO todos (id, title, completed, priority, position, created_at, user_id, category_id) " +
+                "VALUES (?, 'replica', FALSE, 1, 1, ?, ?, ?)", REPLICA_TODO_ID, LocalDateTime.now(), user.getId(), CATEGORY_ID);
+
+        CustomUserDetails principal = new CustomUserDetails(user.getId(), user.getUsername(), user.getPassword());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        replica.update("DELETE FROM todos");
+        replica.update("DELETE FROM users");
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void readOnlyServiceReadsGoToUpToDateReplica() {
+        heartbeat(LocalDateTime.now());
+        replicaLagMonitor.probe();
+
+        assertThat(replicaLagMonitor.getReplicas().get(0).isAvailable()).isTrue();
+        assertThat(currentUserTodoTitles()).containsExactly("replica");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        heartbeat(LocalDateTime.now().minusMinutes(1));
+        replicaLagMonitor.probe();
+
+        assertThat(replicaLagMonitor.getReplicas().get(0).isAvailable()).isFalse();
+        assertThat(currentUserTodoTitles()).containsExactly("primary");
+    }
+
+    @Test
+    void readsStickToPrimaryAfterOwnWrite() {
+        heartbeat(LocalDateTime.now());
+        replicaLagMonitor.probe();
+        assertThat(currentUserTodoTitles()).containsExactly("replica");
+
+        create("new");
+
+        assertThat(currentUserTodoTitles()).containsExactly("primary", "new");
+    }
+
+    @Test
+    void statsVerificationReadsPrimary() {
+        heartbeat(LocalDateTime.now());
+        replicaLagMonitor.probe();
+        replica.update("INSERT INTO todos (id, title, completed, priority, position, created_at, user_id, category_id) " +
+                "VALUES (?, 'replica-only', FALSE, 1, 2, ?, ?, ?)", REPLICA_TODO_ID + 1, LocalDateTime.now(), user.getId(), CATEGORY_ID);
+
+        // 복제본에는 할 일이 2개지만 기본 DB 에는 1개 -> 검증은 기본 DB 기준이므로 1
+        assertThat(todoStatsService.verifyStats().get(0).getTotal()).isEqualTo(1);
+        assertThat(todoStatsService.getStats().get(0).getTotal()).isEqualTo(1);
+    }
+
+    private void heartbeat(LocalDateTime beatAt) {
+        replica.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", beatAt);
+    }
+
+    private List<String> currentUserTodoTitles() {
+        return userService.getCurrentUser().getTodos().stream().map(TodoDTO::getTitle).toList();
+    }
+
+    private void create(String title) {
+        TodoDTO todo = new TodoDTO();
+        todo.setTitle(title);
+        todo.setUserId(user.getId());
+        todoService.createTodoWithCategory(CATEGORY_ID, todo);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.todo_app.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTests {
+
+    @Test
+    void firesInTickOrderAndSkipsCancelled() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("b", 250);
+        wheel.schedule("c", 520);
+        wheel.cancel(cancelled);
+
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly("a");
+        assertThat(wheel.advance(600)).containsExactly("c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlinesBeyondOneRevolutionWaitForTheirRound() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 4, 0);  // 한 바퀴 = 400ms
+        wheel.schedule("far", 1_000);
+        wheel.schedule("near", 200);
+
+        assertThat(wheel.advance(500)).containsExactly("near");
+        assertThat(wheel.advance(900)).isEmpty();  // 같은 버킷을 지나가도 아직 실행 시각 전
+        assertThat(wheel.advance(1_000)).containsExactly("far");
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextAdvance() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 0);
+        wheel.advance(1_000);
+        wheel.schedule("late", 300);
+
+        assertThat(wheel.advance(1_100)).containsExactly("late");
+    }
+}
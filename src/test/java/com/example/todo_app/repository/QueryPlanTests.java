@@ -0,0 +1,144 @@
+package com.example.todo_app.repository;
+
+import com.example.todo_app.model.Todo;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// TodoRepository 의 모든 쿼리를 한 번씩 실행해서 Hibernate 가 만든 SQL 을 모으고,
+// H2 EXPLAIN 결과에 테이블 전체 스캔(tableScan)이 없는지 검증 (인덱스는 db/migration 에서 관리)
+// 새 쿼리 메서드를 추가하면 queries() 에도 추가해야 통과함
+@SpringBootTest(properties = "jwt.secret=dG9kby1hcHAtdGVzdC1zZWNyZXQta2V5LTAxMjM0NTY3ODk=")
+class QueryPlanTests {
+
+    private static final SqlCapture SQL_CAPTURE = new SqlCapture();
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        // 애플리케이션의 QueryCountInspector 와 함께 실행되도록 이미 등록된 StatementInspector 가 있으면 이어서 실행
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer() {
+            return hibernateProperties -> {
+                Object previous = hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR);
+                hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, (previous instanceof StatementInspector inspector)
+                        ? (StatementInspector) sql -> SQL_CAPTURE.inspect(inspector.inspect(sql))
+                        : SQL_CAPTURE);
+            };
+        }
+    }
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyQueryMethodIsChecked() {
+        List<String> declared = Arrays.stream(TodoRepository.class.getDeclaredMethods())
+                .filter(method -> !method.isSynthetic())
+                .map(Method::getName)
+                .collect(Collectors.toList());
+
+        assertThat(queries().keySet()).containsExactlyInAnyOrderElementsOf(declared);
+    }
+
+    @Test
+    @Transactional  // streamByUserId 는 트랜잭션 안에서만 사용 가능
+    void noQueryScansWholeTable() {
+        for (Map.Entry<String, Runnable> query : queries().entrySet()) {
+            List<String> statements = SQL_CAPTURE.capture(query.getValue());
+            assertThat(statements).as(query.getKey()).isNotEmpty();
+
+            for (String sql : statements) {
+                String plan = explain(sql);
+                assertThat(plan).as(query.getKey() + "\n" + plan).doesNotContain("tableScan");
+            }
+        }
+    }
+
+    // 메서드 이름 -> 그 쿼리를 실행하는 호출 (결과는 비어 있어도 됨, 실행 계획만 확인)
+    private Map<String, Runnable> queries() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> ids = List.of(1, 2);
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findCategoryPage", () -> todoRepository.findCategoryPage(1, 1, 0, 0, Limit.of(10)));
+        queries.put("findCategoryPageByCompleted", () -> todoRepository.findCategoryPageByCompleted(1, 1, true, 0, 0, Limit.of(10)));
+        queries.put("findChangedSince", () -> todoRepository.findChangedSince(1, now.minusDays(1), 0, now, Limit.of(10)));
+        queries.put("findMaxPosition", () -> todoRepository.findMaxPosition(1, 1));
+        queries.put("findNextPositions", () -> todoRepository.findNextPositions(1, 1, 1, 0, 0, Limit.of(1)));
+        queries.put("findByUserIdAndCategoryIdOrderByPositionAscIdAsc", () -> todoRepository.findByUserIdAndCategoryIdOrderByPositionAscIdAsc(1, 1));
+        queries.put("findByIdAndUserId", () -> todoRepository.findByIdAndUserId(1, 1));
+        queries.put("findWithTagsByIdAndUserId", () -> todoRepository.findWithTagsByIdAndUserId(1, 1));
+        queries.put("findWithTagsByIdIn", () -> todoRepository.findWithTagsByIdIn(ids));
+        queries.put("findRowsByUserId", () -> todoRepository.findRowsByUserId(1));
+        queries.put("streamByUserId", () -> {
+            // Stream 은 지연 실행이므로 원소를 읽어야 SELECT 가 실행됨
+            try (Stream<Todo> todos = todoRepository.streamByUserId(1)) {
+                todos.findFirst();
+            }
+        });
+        queries.put("searchTitleIds", () -> todoRepository.searchTitleIds(1, "milk", 10, 0));
+        queries.put("findTagIndexRowsByUserId", () -> todoRepository.findTagIndexRowsByUserId(1));
+        queries.put("findStatsRowsByUserId", () -> todoRepository.findStatsRowsByUserId(1));
+        queries.put("countByCategory", () -> todoRepository.countByCategory(1));
+        queries.put("countOverdueByCategory", () -> todoRepository.countOverdueByCategory(1, now));
+        queries.put("findReminderRows", () -> todoRepository.findReminderRows(now, now.plusHours(1), now, Integer.MIN_VALUE, Limit.of(10)));
+        queries.put("findReminderRowsByIdIn", () -> todoRepository.findReminderRowsByIdIn(ids));
+        queries.put("findTagPairsByUserId", () -> todoRepository.findTagPairsByUserId(1));
+        queries.put("findTagPairsByTodoIdIn", () -> todoRepository.findTagPairsByTodoIdIn(ids));
+        return queries;
+    }
+
+    // 파라미터는 모두 NULL 로 바인딩 (실행 계획은 값과 관계없이 준비 단계에서 정해짐)
+    private String explain(String sql) {
+        Object[] params = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, params);
+    }
+
+    // Hibernate 가 실행하는 SQL 을 가로채서 저장 (스케줄러 등 다른 스레드의 SQL 은 제외)
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new ArrayList<>();
+        private volatile Thread target;
+
+        synchronized List<String> capture(Runnable query) {
+            statements.clear();
+            target = Thread.currentThread();
+            try {
+                query.run();
+            } finally {
+                target = null;
+            }
+            return new ArrayList<>(statements);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == target) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.todo_app.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTests {
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+        // 스레드 1개, 대기열 1칸 -> 실행 중 1건 + 대기 1건까지만 받음
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(blockingEncoder, new SimpleMeterRegistry(), 1, 1, 10_000, 1);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.encode("b"));
+        while (executor.getQueuedCount() == 0) {
+            Thread.sleep(10);
+        }
+
+        assertThatThrownBy(() -> executor.encode("c")).isInstanceOf(PasswordHashingRejectedException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        executor.shutdown();
+    }
+
+    @Test
+    void strengthDoublesUntilTargetLatency() {
+        assertThat(BCryptStrengthCalibrator.strengthFor(50, 250)).isEqualTo(12);  // 50 -> 100 -> 200ms
+        assertThat(BCryptStrengthCalibrator.strengthFor(400, 250)).isEqualTo(BCryptStrengthCalibrator.MIN_STRENGTH);
+        assertThat(BCryptStrengthCalibrator.strengthFor(0.01, 250)).isEqualTo(BCryptStrengthCalibrator.MAX_STRENGTH);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.dto.TodoPageDTO;
+import com.example.todo_app.dto.UserDTO;
+import com.example.todo_app.model.Category;
+import com.example.todo_app.model.User;
+import com.example.todo_app.repository.CategoryRepository;
+import com.example.todo_app.repository.TodoRepository;
+import com.example.todo_app.repository.UserRepository;
+import com.example.todo_app.security.CustomUserDetails;
+import com.example.todo_app.security.PrincipalCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 엔드포인트(서비스 메서드)마다 실행되는 SQL 문 개수를 검증
+// 할 일 개수와 관계없이 쿼리 수가 일정해야 함 (N+1 방지)
+@SpringBootTest(properties = {
+        "jwt.secret=dG9kby1hcHAtdGVzdC1zZWNyZXQta2V5LTAxMjM0NTY3ODk=",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class QueryCountTests {
+
+    private static final int CATEGORY_ID = 1;
+    private static final int TODO_COUNT = 20;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        if (!categoryRepository.existsById(CATEGORY_ID)) {
+            categoryRepository.save(new Category(CATEGORY_ID, "일", null));
+        }
+        user = userRepository.save(new User("query-count-user", "password"));
+
+        for (int i = 0; i < TODO_COUNT; i++) {
+            TodoDTO todo = new TodoDTO();
+            todo.setTitle("할 일 " + i);
+            todo.setPosition(i + 1);
+            todo.setTags(List.of("tag-a", "tag-b"));
+            todo.setUserId(user.getId());
+            todoService.createTodoWithCategory(CATEGORY_ID, todo);
+        }
+        CustomUserDetails principal = new CustomUserDetails(user.getId(), user.getUsername(), user.getPassword());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        principalCache.clear();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void categoryPageLoadsTodosAndTagsInTwoQueries() {
+        TodoPageDTO firstPage = todoService.getTodosByCategory(CATEGORY_ID, null, 5);
+
+        assertThat(firstPage.getTodos()).hasSize(5);
+        assertThat(firstPage.getTodos().get(0).getTags()).containsExactly("tag-a", "tag-b");
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void keysetPagesCoverWholeListInOrder() {
+        List<Integer> positions = new ArrayList<>();
+        String cursor = null;
+        do {
+            TodoPageDTO page = todoService.getTodosByCategory(CATEGORY_ID, cursor, 7);
+            page.getTodos().forEach(todo -> positions.add(todo.getPosition()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(positions).hasSize(TODO_COUNT).isSorted();
+    }
+
+    @Test
+    void currentUserLoadsTodosAndTagsInTwoQueries() {
+        UserDTO currentUser = userService.getCurrentUser();
+
+        assertThat(currentUser.getTodos()).hasSize(TODO_COUNT);
+        assertThat(currentUser.getTodos().get(0).getTags()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void reorderLoadsTodosWithTagsInSingleQuery() {
+        List<Integer> ids = new ArrayList<>();
+        todoRepository.findAll().forEach(todo -> ids.add(0, todo.getId()));
+        statistics.clear();
+
+        todoService.updateTodoPositions(ids);
+
+        // 조회는 SELECT 1번, 나머지는 변경된 행의 UPDATE
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void securityLookupReadsOnlyCredentialsAndIsCached() {
+        customUserDetailsService.loadUserByUsername(String.valueOf(user.getId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+
+        customUserDetailsService.loadUserByUsername(String.valueOf(user.getId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.TodoBulkResultDTO;
+import com.example.todo_app.dto.TodoBulkUpdateDTO;
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.dto.TodoSelectorDTO;
+import com.example.todo_app.dto.TodoStatsDTO;
+import com.example.todo_app.model.Category;
+import com.example.todo_app.model.TodoTombstone;
+import com.example.todo_app.model.User;
+import com.example.todo_app.repository.CategoryRepository;
+import com.example.todo_app.repository.TodoRepository;
+import com.example.todo_app.repository.TodoTombstoneRepository;
+import com.example.todo_app.repository.UserRepository;
+import com.example.todo_app.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 일괄 수정/삭제 : 조건에 맞는 현재 사용자의 할 일만 바뀌고, 목록 버전과 메모리 상태(태그 색인, 통계)가 함께 갱신되는지 검증
+@SpringBootTest(properties = "jwt.secret=dG9kby1hcHAtdGVzdC1zZWNyZXQta2V5LTAxMjM0NTY3ODk=")
+class TodoBulkServiceTests {
+
+    private static final int CATEGORY_ID = 1;
+
+    @Autowired
+    private TodoBulkService todoBulkService;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoStatsService todoStatsService;
+
+    @Autowired
+    private TodoListVersions todoListVersions;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        if (!categoryRepository.existsById(CATEGORY_ID)) {
+            categoryRepository.save(new Category(CATEGORY_ID, "일", null));
+        }
+        user = userRepository.save(new User("bulk-user", "password"));
+        User otherUser = userRepository.save(new User("bulk-other-user", "password"));
+
+        create(user, "a", List.of("work"));
+        create(user, "b", List.of("work", "urgent"));
+        create(user, "c", List.of("home"));
+        create(otherUser, "d", List.of("work"));
+
+        CustomUserDetails principal = new CustomUserDetails(user.getId(), user.getUsername(), user.getPassword());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        todoTombstoneRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void updatesOnlyMatchingTodosOfCurrentUser() {
+        todoStatsService.getStats();  // 통계 카운터를 미리 만들어 둠 -> 일괄 변경 후 다시 만들어져야 함
+        String etagBefore = todoListVersions.etag(user.getId(), CATEGORY_ID);
+
+        TodoBulkUpdateDTO request = new TodoBulkUpdateDTO();
+        request.setSelector(new TodoSelectorDTO(null, CATEGORY_ID, false, "work"));
+        request.setCompleted(true);
+        request.setPriority(3);
+        TodoBulkResultDTO result = todoBulkService.updateTodos(request);
+
+        assertThat(result.getCount()).isEqualTo(2);
+        assertThat(result.getVersions()).containsOnlyKeys(CATEGORY_ID);
+        assertThat(result.getVersions().get(CATEGORY_ID)).isNotEqualTo(etagBefore)
+                .isEqualTo(todoListVersions.etag(user.getId(), CATEGORY_ID));
+
+        List<TodoDTO> completed = todoService.getCompletedTodosByCategory(CATEGORY_ID, null, 10).getTodos();
+        assertThat(completed).extracting(TodoDTO::getTitle).containsExactly("a", "b");
+        assertThat(completed).allSatisfy(todo -> assertThat(todo.getPriority()).isEqualTo(3));
+        assertThat(todoRepository.findAll()).filteredOn(todo -> todo.getTitle().equals("d"))
+                .allSatisfy(todo -> assertThat(todo.getCompleted()).isFalse());
+
+        TodoStatsDTO stats = todoStatsService.getStats().get(0);
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getCompleted()).isEqualTo(2);
+        assertThat(todoService.searchByTags(List.of("work"), true, null, true, null, 10).getTodos()).hasSize(2);
+    }
+
+    @Test
+    void noMatchChangesNothing() {
+        TodoBulkUpdateDTO request = new TodoBulkUpdateDTO();
+        request.setSelector(new TodoSelectorDTO(null, null, null, "missing"));
+        request.setCompleted(true);
+
+        TodoBulkResultDTO result = todoBulkService.updateTodos(request);
+
+        assertThat(result.getCount()).isZero();
+        assertThat(result.getVersions()).isEmpty();
+    }
+
+    @Test
+    void clearCompletedDeletesTodosTagsAndLeavesTombstones() {
+        TodoBulkUpdateDTO complete = new TodoBulkUpdateDTO();
+        complete.setSelector(new TodoSelectorDTO(null, null, null, "work"));
+        complete.setCompleted(true);
+        todoBulkService.updateTodos(complete);
+        List<Integer> completedIds = todoRepository.findAll().stream()
+                .filter(todo -> todo.getUser().getId() == user.getId() && todo.getCompleted())
+                .map(todo -> todo.getId())
+                .toList();
+        String etagBefore = todoListVersions.etag(user.getId(), CATEGORY_ID);
+
+        TodoBulkResultDTO result = todoBulkService.clearCompleted(CATEGORY_ID);
+
+        assertThat(result.getCount()).isEqualTo(2);
+        assertThat(result.getVersions().get(CATEGORY_ID)).isNotEqualTo(etagBefore);
+        assertThat(todoRepository.findAll()).extracting(todo -> todo.getTitle()).containsExactlyInAnyOrder("c", "d");
+        assertThat(todoTombstoneRepository.findAll()).extracting(TodoTombstone::getTodoId)
+                .containsExactlyInAnyOrderElementsOf(completedIds);
+        assertThat(todoTombstoneRepository.findAll()).allSatisfy(tombstone ->
+                assertThat(tombstone.getUserId()).isEqualTo(user.getId()));
+        // 다른 사용자의 "work" 태그는 그대로, 현재 사용자의 "work" 태그는 할 일과 함께 사라짐
+        assertThat(todoService.searchByTags(List.of("work"), true, null, true, null, 10).getTodos()).isEmpty();
+        assertThat(todoStatsService.getStats().get(0).getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void clearCompletedDeletesMoreThanBulkLimit() {
+        // 사용자가 좁힐 조건이 없으므로 MAX_BULK_SIZE 를 넘어도 모두 삭제됨
+        int count = TodoBulkService.MAX_BULK_SIZE + 1;
+        for (int created = 0; created < count; created += 500) {
+            List<TodoDTO> todos = new ArrayList<>();
+            for (int i = created; i < Math.min(created + 500, count); i++) {
+                TodoDTO todo = new TodoDTO();
+                todo.setTitle("done-" + i);
+                todo.setCompleted(true);
+                todos.add(todo);
+            }
+            todoService.createTodosWithCategory(CATEGORY_ID, todos);
+        }
+
+        TodoBulkResultDTO result = todoBulkService.clearCompleted(CATEGORY_ID);
+
+        assertThat(result.getCount()).isEqualTo(count);
+        assertThat(todoRepository.findAll()).extracting(todo -> todo.getTitle()).containsExactlyInAnyOrder("a", "b", "c", "d");
+        // 삭제 기록 id 는 IDENTITY 로 한 행에 하나씩 생성
+        List<Integer> tombstoneIds = todoTombstoneRepository.findAll().stream().map(TodoTombstone::getId).sorted().toList();
+        assertThat(tombstoneIds).hasSize(count);
+        assertThat(tombstoneIds.get(count - 1) - tombstoneIds.get(0)).isEqualTo(count - 1);
+    }
+
+    private void create(User owner, String title, List<String> tags) {
+        TodoDTO todo = new TodoDTO();
+        todo.setTitle(title);
+        todo.setTags(tags);
+        todo.setUserId(owner.getId());
+        todoService.createTodoWithCategory(CATEGORY_ID, todo);
+    }
+}
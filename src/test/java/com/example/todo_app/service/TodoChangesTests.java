@@ -0,0 +1,110 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.TodoChangesDTO;
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.model.Category;
+import com.example.todo_app.model.User;
+import com.example.todo_app.repository.CategoryRepository;
+import com.example.todo_app.repository.TodoRepository;
+import com.example.todo_app.repository.TodoTombstoneRepository;
+import com.example.todo_app.repository.UserRepository;
+import com.example.todo_app.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 변경 사항 조회(/todos/changes) : 커서 이후의 생성/수정/삭제만 응답하는지 검증
+@SpringBootTest(properties = {
+        "jwt.secret=dG9kby1hcHAtdGVzdC1zZWNyZXQta2V5LTAxMjM0NTY3ODk=",
+        "todo.changes.commit-lag-ms=0"
+})
+class TodoChangesTests {
+
+    private static final int CATEGORY_ID = 1;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final List<TodoDTO> todos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        if (!categoryRepository.existsById(CATEGORY_ID)) {
+            categoryRepository.save(new Category(CATEGORY_ID, "일", null));
+        }
+        User user = userRepository.save(new User("changes-user", "password"));
+        CustomUserDetails principal = new CustomUserDetails(user.getId(), user.getUsername(), user.getPassword());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        for (int i = 0; i < 5; i++) {
+            TodoDTO todo = new TodoDTO();
+            todo.setTitle("할 일 " + i);
+            todo.setUserId(user.getId());
+            todos.add(todoService.createTodoWithCategory(CATEGORY_ID, todo));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        todoTombstoneRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void returnsOnlyChangesAfterCursor() throws InterruptedException {
+        TodoChangesDTO initial = todoService.getChanges(null, 200);
+        assertThat(initial.getTodos()).hasSize(5);
+        assertThat(initial.getTodos().get(0).getCategoryId()).isEqualTo(CATEGORY_ID);
+
+        Thread.sleep(5);
+        TodoDTO updated = todos.get(1);
+        updated.setTitle("수정된 할 일");
+        todoService.updateTodoByCategory(CATEGORY_ID, updated);
+        todoService.deleteTodoById(todos.get(3).getId());
+        Thread.sleep(5);
+
+        TodoChangesDTO changes = todoService.getChanges(initial.getNextCursor(), 50);
+        assertThat(changes.getTodos()).extracting(TodoDTO::getTitle).containsExactly("수정된 할 일");
+        assertThat(changes.getDeletedIds()).containsExactly(todos.get(3).getId());
+
+        TodoChangesDTO nothing = todoService.getChanges(changes.getNextCursor(), 50);
+        assertThat(nothing.getTodos()).isEmpty();
+        assertThat(nothing.getDeletedIds()).isEmpty();
+    }
+
+    @Test
+    void pagesThroughChangesWithHasMore() {
+        List<Integer> ids = new ArrayList<>();
+        TodoChangesDTO page = todoService.getChanges(null, 2);
+        page.getTodos().forEach(todo -> ids.add(todo.getId()));
+        while (page.getHasMore()) {
+            page = todoService.getChanges(page.getNextCursor(), 2);
+            page.getTodos().forEach(todo -> ids.add(todo.getId()));
+        }
+
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(todos.stream().map(TodoDTO::getId).toList());
+    }
+}
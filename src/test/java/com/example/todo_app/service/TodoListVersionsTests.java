@@ -0,0 +1,28 @@
+package com.example.todo_app.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoListVersionsTests {
+
+    private final TodoListVersions versions = new TodoListVersions();
+
+    @Test
+    void etagChangesOnlyForModifiedList() {
+        String list = versions.etag(1, 1);
+        String otherCategory = versions.etag(1, 2);
+        String otherUser = versions.etag(2, 1);
+
+        versions.increment(1, 1);
+
+        assertThat(versions.etag(1, 1)).isNotEqualTo(list).startsWith("W/\"");
+        assertThat(versions.etag(1, 2)).isEqualTo(otherCategory);
+        assertThat(versions.etag(2, 1)).isEqualTo(otherUser);
+    }
+
+    @Test
+    void etagsDifferAcrossRestarts() {
+        assertThat(new TodoListVersions().etag(1, 1)).isNotEqualTo(versions.etag(1, 1));
+    }
+}
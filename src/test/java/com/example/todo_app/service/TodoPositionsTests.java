@@ -0,0 +1,59 @@
+package com.example.todo_app.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoPositionsTests {
+
+    private static final int GAP = TodoPositions.GAP;
+
+    @Test
+    void betweenUsesFreeSpaceAroundNeighbours() {
+        assertThat(TodoPositions.between(null, null)).isEqualTo(GAP);
+        assertThat(TodoPositions.between(GAP, 2 * GAP)).isEqualTo(GAP + GAP / 2);
+        assertThat(TodoPositions.between(null, GAP)).isEqualTo(0);
+        assertThat(TodoPositions.between(GAP, null)).isEqualTo(2 * GAP);
+    }
+
+    @Test
+    void betweenReturnsNullWhenGapIsExhausted() {
+        assertThat(TodoPositions.between(5, 6)).isNull();
+        assertThat(TodoPositions.between(5, 5)).isNull();
+        assertThat(TodoPositions.between(Integer.MAX_VALUE - 1, null)).isNull();
+    }
+
+    @Test
+    void reorderChangesOnlyTheMovedItem() {
+        // 4번째 항목을 맨 앞으로 이동
+        Integer[] current = {4 * GAP, GAP, 2 * GAP, 3 * GAP, 5 * GAP};
+
+        int[] reordered = TodoPositions.reorder(current);
+
+        assertThat(reordered).isSorted();
+        int changed = 0;
+        for (int i = 0; i < current.length; i++) {
+            if (reordered[i] != current[i]) {
+                changed++;
+            }
+        }
+        assertThat(changed).isEqualTo(1);
+    }
+
+    @Test
+    void reorderRenumbersWhenNoRoomIsLeft() {
+        Integer[] current = {1, 3, 2};
+
+        assertThat(TodoPositions.reorder(current)).containsExactly(GAP, 2 * GAP, 3 * GAP);
+    }
+
+    @Test
+    void reorderAssignsPositionsToItemsWithoutOne() {
+        Integer[] current = {null, GAP, null};
+
+        int[] reordered = TodoPositions.reorder(current);
+
+        assertThat(reordered).isSorted().doesNotHaveDuplicates();
+        assertThat(reordered[1]).isEqualTo(GAP);
+    }
+}
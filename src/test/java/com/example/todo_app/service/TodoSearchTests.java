@@ -0,0 +1,96 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.TodoDTO;
+import com.example.todo_app.dto.TodoPageDTO;
+import com.example.todo_app.model.Category;
+import com.example.todo_app.model.User;
+import com.example.todo_app.repository.CategoryRepository;
+import com.example.todo_app.repository.TodoRepository;
+import com.example.todo_app.repository.UserRepository;
+import com.example.todo_app.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 제목 전문 검색(H2 FT_SEARCH_DATA) : 트리거로 색인이 갱신되고, 사용자 범위와 순위가 지켜지는지 검증
+@SpringBootTest(properties = "jwt.secret=dG9kby1hcHAtdGVzdC1zZWNyZXQta2V5LTAxMjM0NTY3ODk=")
+class TodoSearchTests {
+
+    private static final int CATEGORY_ID = 1;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        if (!categoryRepository.existsById(CATEGORY_ID)) {
+            categoryRepository.save(new Category(CATEGORY_ID, "일", null));
+        }
+        user = userRepository.save(new User("search-user", "password"));
+        User otherUser = userRepository.save(new User("search-other-user", "password"));
+
+        create(user, "buy milk and eggs");
+        create(user, "milk");
+        create(user, "milk tea");
+        create(user, "walk the dog");
+        create(otherUser, "milk");
+
+        CustomUserDetails principal = new CustomUserDetails(user.getId(), user.getUsername(), user.getPassword());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void ranksExactThenPrefixMatchesWithinUser() {
+        TodoPageDTO page = todoService.searchByTitle("milk", null, 2);
+        assertThat(page.getTodos()).extracting(TodoDTO::getTitle).containsExactly("milk", "milk tea");
+        assertThat(page.getNextCursor()).isNotNull();
+
+        TodoPageDTO next = todoService.searchByTitle("milk", page.getNextCursor(), 2);
+        assertThat(next.getTodos()).extracting(TodoDTO::getTitle).containsExactly("buy milk and eggs");
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    void indexFollowsUpdates() {
+        TodoDTO walk = todoService.searchByTitle("dog", null, 10).getTodos().get(0);
+        walk.setTitle("walk the cat");
+        todoService.updateTodoByCategory(CATEGORY_ID, walk);
+
+        assertThat(todoService.searchByTitle("dog", null, 10).getTodos()).isEmpty();
+        assertThat(todoService.searchByTitle("cat walk", null, 10).getTodos()).hasSize(1);
+    }
+
+    private void create(User owner, String title) {
+        TodoDTO todo = new TodoDTO();
+        todo.setTitle(title);
+        todo.setTags(List.of());
+        todo.setUserId(owner.getId());
+        todoService.createTodoWithCategory(CATEGORY_ID, todo);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.todo_app.service;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserTagIndexTests {
+
+    @Test
+    void allAndAnyWithFilters() {
+        UserTagIndex index = new UserTagIndex();
+        index.upsert(1, 1, false, List.of("work", "urgent"));
+        index.upsert(2, 1, true, List.of("work"));
+        index.upsert(3, 2, false, List.of("home", "urgent"));
+
+        assertThat(index.search(List.of("work", "urgent"), true, null, null)).containsExactly(1);
+        assertThat(index.search(List.of("work", "home"), false, null, null)).containsExactly(1, 2, 3);
+        assertThat(index.search(List.of("work"), true, 1, true)).containsExactly(2);
+        assertThat(index.search(List.of("urgent"), true, null, false)).containsExactly(1, 3);
+        assertThat(index.search(List.of("work", "missing"), true, null, null)).isEmpty();
+    }
+
+    @Test
+    void updateAndRemoveKeepBitmapsConsistent() {
+        UserTagIndex index = new UserTagIndex();
+        index.upsert(1, 1, false, List.of("work"));
+        index.upsert(2, 1, false, List.of("work"));
+
+        index.upsert(1, 2, true, List.of("home"));
+        index.remove(2);
+        index.upsert(3, 1, false, List.of("work"));  // 삭제된 slot 재사용
+
+        assertThat(index.search(List.of("work"), true, null, null)).containsExactly(3);
+        assertThat(index.search(List.of("home"), true, 2, true)).containsExactly(1);
+        assertThat(index.search(List.of("home"), true, 1, null)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
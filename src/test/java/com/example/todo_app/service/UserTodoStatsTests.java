@@ -0,0 +1,48 @@
+package com.example.todo_app.service;
+
+import com.example.todo_app.dto.TodoStatsDTO;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserTodoStatsTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Test
+    void countsFollowUpsertsAndRemovals() {
+        UserTodoStats stats = new UserTodoStats(NOW);
+        stats.upsert(1, new UserTodoStats.Contribution(1, false, 1, null));
+        stats.upsert(2, new UserTodoStats.Contribution(1, true, 3, null));
+        stats.upsert(3, new UserTodoStats.Contribution(2, false, 2, null));
+
+        stats.upsert(1, new UserTodoStats.Contribution(1, true, 2, null));
+        stats.upsert(1, new UserTodoStats.Contribution(1, true, 2, null));  // 같은 변경을 다시 적용해도 그대로
+        stats.remove(3);
+
+        List<TodoStatsDTO> snapshot = stats.snapshot(NOW);
+        assertThat(snapshot).hasSize(1);
+        assertThat(snapshot.get(0).getTotal()).isEqualTo(2);
+        assertThat(snapshot.get(0).getCompleted()).isEqualTo(2);
+        assertThat(snapshot.get(0).getByPriority()).isEqualTo(Map.of(2, 1L, 3, 1L));
+    }
+
+    @Test
+    void overdueAdvancesWithTime() {
+        UserTodoStats stats = new UserTodoStats(NOW);
+        stats.upsert(1, new UserTodoStats.Contribution(1, false, 1, NOW.minusDays(1)));
+        stats.upsert(2, new UserTodoStats.Contribution(1, false, 1, NOW.plusHours(1)));
+        stats.upsert(3, new UserTodoStats.Contribution(1, false, 1, NOW.plusDays(2)));
+
+        assertThat(stats.snapshot(NOW).get(0).getOverdue()).isEqualTo(1);
+        assertThat(stats.snapshot(NOW.plusHours(2)).get(0).getOverdue()).isEqualTo(2);
+
+        stats.upsert(2, new UserTodoStats.Contribution(1, true, 1, NOW.plusHours(1)));  // 기한이 지난 뒤 완료
+        stats.remove(1);
+        assertThat(stats.snapshot(NOW.plusHours(2)).get(0).getOverdue()).isZero();
+        assertThat(stats.snapshot(NOW.plusDays(3)).get(0).getOverdue()).isEqualTo(1);
+    }
+}